@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd;
+
+/**
+ * @author agent
+ */
+public class BndBenchmarkInputs {
+
+	/**
+	 * Generates a bnd file with the given number of headers, using the header
+	 * shapes that are common in Liferay modules.
+	 */
+	public static String createBndContent(int headerCount) {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < headerCount; i++) {
+			switch (i % 6) {
+				case 0:
+					sb.append("Bundle-SymbolicName: com.liferay.benchmark.module");
+					sb.append(i);
+					sb.append(";singleton:=true\n");
+
+					break;
+				case 1:
+					sb.append("Bundle-Version: 1.");
+					sb.append(i);
+					sb.append(".0\n");
+
+					break;
+				case 2:
+					sb.append("Export-Package: \\\n");
+
+					for (int j = 0; j < 5; j++) {
+						sb.append("\tcom.liferay.benchmark.module");
+						sb.append(i);
+						sb.append(".api.package");
+						sb.append(j);
+						sb.append(";version=\"1.0.0\";uses:=\"com.liferay.portal.kernel.model\"");
+						sb.append((j < 4) ? ",\\\n" : "\n");
+					}
+
+					break;
+				case 3:
+					sb.append("Import-Package: \\\n");
+
+					for (int j = 0; j < 5; j++) {
+						sb.append("\tcom.liferay.portal.kernel.package");
+						sb.append(j);
+						sb.append(";version=\"[7.0,8)\";resolution:=optional,\\\n");
+					}
+
+					sb.append("\t*\n");
+
+					break;
+				case 4:
+					sb.append("Bundle-Activator: com.liferay.benchmark.module");
+					sb.append(i);
+					sb.append(".internal.activator.BenchmarkActivator\n");
+
+					break;
+				default:
+					sb.append("-includeresource: META-INF/resources=src/main/resources/META-INF/resources");
+					sb.append(i);
+					sb.append(",lib/dependency.jar=dependency-");
+					sb.append(i);
+					sb.append(".jar\n");
+			}
+		}
+
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd.lexer;
+
+import com.liferay.ide.idea.bnd.BndBenchmarkInputs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BndLexerBenchmark {
+
+	@Benchmark
+	public int lex() {
+		_bndLexer.start(_bndContent);
+
+		int tokenCount = 0;
+
+		while (_bndLexer.getTokenType() != null) {
+			tokenCount++;
+
+			_bndLexer.advance();
+		}
+
+		return tokenCount;
+	}
+
+	@Setup
+	public void setUp() {
+		_bndContent = BndBenchmarkInputs.createBndContent(headerCount);
+	}
+
+	@Param({"10", "100", "1000"})
+	public int headerCount;
+
+	private String _bndContent;
+	private final BndLexer _bndLexer = new BndLexer();
+
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd.parser;
+
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lang.impl.PsiBuilderFactoryImpl;
+import com.intellij.mock.MockApplication;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.impl.CoreProgressManager;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.util.ObjectUtils;
+
+import com.liferay.ide.idea.bnd.BndBenchmarkInputs;
+import com.liferay.ide.idea.bnd.lexer.BndLexer;
+import com.liferay.ide.idea.bnd.psi.BndElementType;
+import com.liferay.ide.idea.bnd.psi.BndTokenType;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the header clause parsers over a PsiBuilder the same way BndParser
+ * does, without building the AST, so only the parsing cost is measured.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BndHeaderParsersBenchmark {
+
+	@Benchmark
+	public int parseHeaders() {
+		PsiBuilder psiBuilder = _psiBuilderFactory.createBuilder(_bndParserDefinition, new BndLexer(), _bndContent);
+
+		PsiBuilder.Marker rootMarker = psiBuilder.mark();
+
+		int parsedHeaderCount = 0;
+
+		while (!psiBuilder.eof()) {
+			if (psiBuilder.getTokenType() != BndTokenType.HEADER_NAME) {
+				psiBuilder.advanceLexer();
+
+				continue;
+			}
+
+			PsiBuilder.Marker headerMarker = psiBuilder.mark();
+			String headerName = psiBuilder.getTokenText();
+
+			psiBuilder.advanceLexer();
+
+			if (psiBuilder.getTokenType() == BndTokenType.COLON) {
+				psiBuilder.advanceLexer();
+
+				BndHeaderParser bndHeaderParser = ObjectUtils.notNull(
+					BndHeaderParsers.parsersMap.get(headerName), BndHeaderParser.INSTANCE);
+
+				bndHeaderParser.parse(psiBuilder);
+			}
+
+			headerMarker.done(BndElementType.HEADER);
+
+			parsedHeaderCount++;
+		}
+
+		rootMarker.done(BndParserDefinition.BND_FILE_ELEMENT_TYPE);
+
+		return parsedHeaderCount;
+	}
+
+	@Setup
+	public void setUp() {
+		_disposable = Disposer.newDisposable();
+
+		MockApplication mockApplication = MockApplication.setUp(_disposable);
+
+		mockApplication.registerService(ProgressManager.class, new CoreProgressManager());
+		mockApplication.registerService(PsiBuilderFactory.class, new PsiBuilderFactoryImpl());
+
+		_psiBuilderFactory = PsiBuilderFactory.getInstance();
+
+		_bndContent = BndBenchmarkInputs.createBndContent(headerCount);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Disposer.dispose(_disposable);
+	}
+
+	@Param({"10", "100", "1000"})
+	public int headerCount;
+
+	private String _bndContent;
+	private final BndParserDefinition _bndParserDefinition = new BndParserDefinition();
+	private Disposable _disposable;
+	private PsiBuilderFactory _psiBuilderFactory;
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches generated taglib attributes against the taglib attribute index, the
+ * way the element filters of the taglib contributors do for every attribute
+ * value in a JSP.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class TaglibAttributeMatchingBenchmark {
+
+	@Benchmark
+	public int matchAttributes() {
+		int matchCount = 0;
+
+		for (int kind : _KINDS) {
+			for (String[] attribute : _attributes) {
+				if (LiferayTaglibAttributeIndex.contains(kind, attribute[0], attribute[1], attribute[2])) {
+					matchCount++;
+				}
+			}
+		}
+
+		return matchCount;
+	}
+
+	@Setup
+	public void setUp() {
+		TreeSet<String> attributeNames = new TreeSet<>();
+
+		for (int kind : _KINDS) {
+			Collections.addAll(attributeNames, LiferayTaglibAttributeIndex.getAttributeNames(kind));
+		}
+
+		attributeNames.add("");
+		attributeNames.add("id");
+
+		String[] namespaces = {
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI_OLD,
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND,
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "http://java.sun.com/jsp/jstl/core"
+		};
+
+		String[] tagNames = {
+			"a", "button", "form", "icon", "input", "message", "script", "search-container-column-text", "select",
+			"tabs"
+		};
+
+		for (String namespace : namespaces) {
+			for (String tagName : tagNames) {
+				for (String attributeName : attributeNames) {
+					_attributes.add(new String[] {namespace, tagName, attributeName});
+				}
+			}
+		}
+
+		Collections.shuffle(_attributes, new Random(_attributes.size()));
+	}
+
+	private static final int[] _KINDS = {
+		LiferayTaglibAttributeIndex.CLASS_NAME, LiferayTaglibAttributeIndex.CSS_CLASS,
+		LiferayTaglibAttributeIndex.JAVASCRIPT, LiferayTaglibAttributeIndex.MODEL_CONTEXT,
+		LiferayTaglibAttributeIndex.RESOURCE_BUNDLE, LiferayTaglibAttributeIndex.SEARCH_CONTAINER
+	};
+
+	private final List<String[]> _attributes = new ArrayList<>();
+
+}
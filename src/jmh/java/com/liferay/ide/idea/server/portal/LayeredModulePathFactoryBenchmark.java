@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.portal;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class LayeredModulePathFactoryBenchmark {
+
+	@Benchmark
+	public List<String> readRefsFromFile() throws IOException {
+		return LayeredModulePathFactory.readRefs(_refsFile);
+	}
+
+	@Benchmark
+	public List<String> readRefsFromMemory() throws IOException {
+		return LayeredModulePathFactory.readRefs(new ByteArrayInputStream(_refs));
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < refCount; i++) {
+			sb.append("\tcom.liferay.benchmark.layer");
+			sb.append(i);
+			sb.append("\r\n");
+		}
+
+		_refs = sb.toString(
+		).getBytes(
+			StandardCharsets.UTF_8
+		);
+
+		_refsFile = File.createTempFile("overlays", ".refs");
+
+		Files.write(_refsFile.toPath(), _refs);
+	}
+
+	@TearDown
+	public void tearDown() {
+		_refsFile.delete();
+	}
+
+	@Param({"10", "100", "1000"})
+	public int refCount;
+
+	private byte[] _refs;
+	private File _refsFile;
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.google.common.collect.ListMultimap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class GradleDependencyUpdaterBenchmark {
+
+	@Benchmark
+	public ListMultimap<String, GradleDependency> findAllDependencies() {
+		return _gradleDependencyUpdater.getAllDependencies();
+	}
+
+	@Benchmark
+	public ListMultimap<String, GradleDependency> parseAndFindAllDependencies() {
+		GradleDependencyUpdater gradleDependencyUpdater = new GradleDependencyUpdater(_buildScript);
+
+		return gradleDependencyUpdater.getAllDependencies();
+	}
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("buildscript {\n\tdependencies {\n");
+		sb.append("\t\tclasspath group: \"com.liferay\", name: \"com.liferay.gradle.plugins\", ");
+		sb.append("version: \"latest.release\"\n");
+		sb.append("\t}\n}\n\napply plugin: \"com.liferay.plugin\"\n\ndependencies {\n");
+
+		for (int i = 0; i < dependencyCount; i++) {
+			if ((i % 2) == 0) {
+				sb.append("\tcompileOnly group: \"com.liferay\", name: \"com.liferay.benchmark.api");
+				sb.append(i);
+				sb.append("\", version: \"1.0.");
+				sb.append(i);
+				sb.append("\"\n");
+			}
+			else {
+				sb.append("\tcompileOnly \"com.liferay:com.liferay.benchmark.impl");
+				sb.append(i);
+				sb.append(":1.0.");
+				sb.append(i);
+				sb.append("\"\n");
+			}
+		}
+
+		sb.append("}");
+
+		_buildScript = sb.toString();
+
+		_gradleDependencyUpdater = new GradleDependencyUpdater(_buildScript);
+	}
+
+	@Param({"10", "100", "500"})
+	public int dependencyCount;
+
+	private String _buildScript;
+	private GradleDependencyUpdater _gradleDependencyUpdater;
+
+}
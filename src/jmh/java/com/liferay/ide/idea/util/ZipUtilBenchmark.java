@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.intellij.openapi.util.Pair;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class ZipUtilBenchmark {
+
+	@Setup(Level.Invocation)
+	public void cleanDestDir() throws IOException {
+		FileUtils.deleteDirectory(_destDir);
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		_tempDir = Files.createTempDirectory(
+			"zip-util-benchmark"
+		).toFile();
+
+		_destDir = new File(_tempDir, "dest");
+		_zipFile = new File(_tempDir, "benchmark.zip");
+
+		Random random = new Random(entryCount);
+
+		byte[] binaryContent = new byte[entrySize];
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(_zipFile))) {
+			for (int i = 0; i < entryCount; i++) {
+				String directory = ((i % 2) == 0) ? "META-INF/resources/" : "com/liferay/benchmark/";
+
+				if (i < 2) {
+					zipOutputStream.putNextEntry(new ZipEntry(directory));
+					zipOutputStream.closeEntry();
+				}
+
+				zipOutputStream.putNextEntry(new ZipEntry(directory + "entry" + i + ".txt"));
+
+				if ((i % 4) == 0) {
+					random.nextBytes(binaryContent);
+
+					zipOutputStream.write(binaryContent);
+				}
+				else {
+					String line = "com.liferay.benchmark.entry" + i + "\n";
+
+					byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+
+					for (int length = 0; length < entrySize; length += lineBytes.length) {
+						zipOutputStream.write(lineBytes);
+					}
+				}
+
+				zipOutputStream.closeEntry();
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(_tempDir);
+	}
+
+	@Benchmark
+	public void unzip() throws IOException {
+		ZipUtil.unzip(_zipFile, _destDir, null);
+	}
+
+	@Benchmark
+	public void unzipWithPathFilter() throws IOException {
+		ZipUtil.unzip(
+			_zipFile, _destDir,
+			entryPath -> {
+				if (entryPath.startsWith("META-INF/resources/")) {
+					return Pair.create(true, _destDir);
+				}
+
+				return Pair.create(false, null);
+			});
+	}
+
+	@Param({"100", "1000"})
+	public int entryCount;
+
+	@Param("4096")
+	public int entrySize;
+
+	private File _destDir;
+	private File _tempDir;
+	private File _zipFile;
+
+}
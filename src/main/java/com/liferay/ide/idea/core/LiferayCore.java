@@ -16,10 +16,7 @@ package com.liferay.ide.idea.core;
 
 import com.intellij.openapi.project.Project;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.ServiceLoader;
+import com.liferay.ide.idea.util.LiferayMetrics;
 
 /**
  * @author Simon Jiang
@@ -27,58 +24,18 @@ import java.util.ServiceLoader;
 public class LiferayCore {
 
 	public static WorkspaceProvider getWorkspaceProvider(Project project) {
-		Collection<WorkspaceProvider> workspaceProviders = _getWorkspaceProviders();
-
-		for (WorkspaceProvider provider : workspaceProviders) {
-			try {
-				WorkspaceProvider workspaceProvider = provider.provide(project, WorkspaceProvider.class);
-
-				if (workspaceProvider != null) {
-					return workspaceProvider;
-				}
-			}
-			catch (Throwable th) {
-				throw new RuntimeException("getWorkspaceProvider error", th);
-			}
+		if (project.isDisposed()) {
+			return null;
 		}
 
-		return null;
-	}
-
-	private static Collection<WorkspaceProvider> _getWorkspaceProviders() {
-		if (_workspaceProviders == null) {
-			_workspaceProviders = new ArrayList<>();
-
-			try {
-				ServiceLoader<WorkspaceProvider> serviceLoader = ServiceLoader.load(
-					WorkspaceProvider.class, LiferayCore.class.getClassLoader());
-
-				Iterator<WorkspaceProvider> iterator = serviceLoader.iterator();
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("core.getWorkspaceProvider");
 
-				while (iterator.hasNext()) {
-					_workspaceProviders.add(iterator.next());
-				}
-			}
-			catch (Throwable e) {
-				Class<?> throwableClass = e.getClass();
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			LiferayWorkspaceProviderService workspaceProviderService = LiferayWorkspaceProviderService.getInstance(
+				project);
 
-				System.err.println(
-					"Exception thrown while loading WorkspaceProvider." + System.lineSeparator() + "Exception: " +
-						throwableClass.getName() + ": " + e.getMessage());
-
-				Throwable cause = e.getCause();
-
-				if (cause != null) {
-					Class<?> throwableCauseClass = cause.getClass();
-
-					System.err.print(throwableCauseClass.getName() + ": " + cause.getMessage());
-				}
-			}
+			return workspaceProviderService.getWorkspaceProvider();
 		}
-
-		return _workspaceProviders;
 	}
 
-	private static Collection<WorkspaceProvider> _workspaceProviders = null;
-
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+
+import java.io.File;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.CancellationToken;
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ModelBuilder;
+import org.gradle.tooling.ProjectConnection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps one Gradle Tooling API connection per workspace root, so model queries
+ * and builds do not pay the connection and daemon handshake cost every time.
+ *
+ * @author agent
+ */
+public class LiferayGradleConnectionManager implements Disposable {
+
+	public static LiferayGradleConnectionManager getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayGradleConnectionManager.class);
+	}
+
+	public static CancellationTokenSource newCancellationTokenSource() {
+		return GradleConnector.newCancellationTokenSource();
+	}
+
+	@Override
+	public void dispose() {
+		List<ProjectConnection> projectConnections = new ArrayList<>(_projectConnections.values());
+
+		_projectConnections.clear();
+
+		for (ProjectConnection projectConnection : projectConnections) {
+			try {
+				projectConnection.close();
+			}
+			catch (Exception e) {
+			}
+		}
+	}
+
+	public <T> T getModel(
+		@NotNull File projectDir, @NotNull Class<T> modelClass, @Nullable CancellationToken cancellationToken,
+		String... arguments) {
+
+		return _execute(
+			projectDir,
+			projectConnection -> {
+				ModelBuilder<T> modelBuilder = projectConnection.model(modelClass);
+
+				if (arguments.length > 0) {
+					modelBuilder.withArguments(arguments);
+				}
+
+				if (cancellationToken != null) {
+					modelBuilder.withCancellationToken(cancellationToken);
+				}
+
+				return modelBuilder.get();
+			});
+	}
+
+	public void runBuild(
+		@NotNull File projectDir, @Nullable File javaHome, @Nullable OutputStream outputStream,
+		@Nullable CancellationToken cancellationToken, @NotNull String[] arguments, String... tasks) {
+
+		_execute(
+			projectDir,
+			projectConnection -> {
+				BuildLauncher buildLauncher = projectConnection.newBuild();
+
+				if (javaHome != null) {
+					buildLauncher.setJavaHome(javaHome);
+				}
+
+				if (arguments.length > 0) {
+					buildLauncher.addArguments(arguments);
+				}
+
+				if (outputStream != null) {
+					buildLauncher.setStandardOutput(outputStream);
+				}
+
+				if (cancellationToken != null) {
+					buildLauncher.withCancellationToken(cancellationToken);
+				}
+
+				buildLauncher.forTasks(tasks);
+
+				buildLauncher.run();
+
+				return null;
+			});
+	}
+
+	private <T> T _execute(File projectDir, ConnectionCallback<T> connectionCallback) {
+		String key = projectDir.getAbsolutePath();
+
+		ProjectConnection projectConnection = _projectConnections.computeIfAbsent(
+			key,
+			path -> {
+				GradleConnector gradleConnector = GradleConnector.newConnector();
+
+				gradleConnector.forProjectDirectory(projectDir);
+
+				return gradleConnector.connect();
+			});
+
+		try {
+			return connectionCallback.execute(projectConnection);
+		}
+		catch (IllegalStateException ise) {
+
+			// the connection has been closed underneath us, drop it so the next call reconnects
+
+			if (_projectConnections.remove(key, projectConnection)) {
+				projectConnection.close();
+			}
+
+			throw ise;
+		}
+	}
+
+	private final Map<String, ProjectConnection> _projectConnections = new ConcurrentHashMap<>();
+
+	private interface ConnectionCallback<T> {
+
+		public T execute(ProjectConnection projectConnection);
+
+	}
+
+}
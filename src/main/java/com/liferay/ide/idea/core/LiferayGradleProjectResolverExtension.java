@@ -20,6 +20,7 @@ import com.intellij.openapi.externalSystem.model.project.IExternalSystemSourceTy
 import com.intellij.openapi.externalSystem.model.project.ModuleData;
 import com.intellij.openapi.externalSystem.model.project.ProjectData;
 import com.intellij.openapi.externalSystem.util.ExternalSystemApiUtil;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
@@ -27,8 +28,13 @@ import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 import java.io.File;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FilenameUtils;
 
@@ -42,6 +48,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.plugins.gradle.model.DefaultExternalLibraryDependency;
 import org.jetbrains.plugins.gradle.model.ExternalDependency;
+import org.jetbrains.plugins.gradle.model.ExternalLibraryDependency;
 import org.jetbrains.plugins.gradle.model.ExternalProject;
 import org.jetbrains.plugins.gradle.model.ExternalSourceDirectorySet;
 import org.jetbrains.plugins.gradle.model.ExternalSourceSet;
@@ -73,7 +80,7 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 		String ideProjectFileDirectoryPath = FilenameUtils.separatorsToSystem(
 			projectData.getIdeProjectFileDirectoryPath());
 
-		if (!LiferayWorkspaceSupport.isValidGradleWorkspaceLocation(ideProjectFileDirectoryPath)) {
+		if (!_isValidGradleWorkspaceLocation(ideProject, ideProjectFileDirectoryPath)) {
 			super.populateModuleDependencies(gradleModule, ideModule, ideProject);
 
 			return;
@@ -90,6 +97,19 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 
 			assert sourceSetMap != null;
 
+			long start = System.nanoTime();
+
+			final boolean workspaceRootModule = ideProjectFileDirectoryPath.equals(moduleDir.getAbsolutePath());
+
+			final Collection<ExternalLibraryDependency> workspaceDependencies;
+
+			if (workspaceRootModule) {
+				workspaceDependencies = _getWorkspaceDependencies(gradleModule);
+			}
+			else {
+				workspaceDependencies = Collections.emptyList();
+			}
+
 			_processSourceSets(
 				resolverCtx, gradleModule, externalProject, ideModule,
 				new SourceSetsProcessor() {
@@ -101,43 +121,16 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 
 						Collection<ExternalDependency> dependencies = sourceSet.getDependencies();
 
-						if (ideProjectFileDirectoryPath.equals(moduleDir.getAbsolutePath())) {
-							DomainObjectSet<? extends IdeaDependency> moduleDependencies = ideaModule.getDependencies();
-
-							for (IdeaDependency dependency : moduleDependencies) {
-								if (dependency instanceof IdeaSingleEntryLibraryDependency) {
-									IdeaSingleEntryLibraryDependency ideaDependency =
-										(IdeaSingleEntryLibraryDependency)dependency;
-
-									File jarFile = ideaDependency.getFile();
-
-									String jarName = jarFile.getName();
-
-									if (jarName.endsWith(".jar")) {
-										GradleModuleVersion gradleModuleVersion =
-											ideaDependency.getGradleModuleVersion();
-
-										if (gradleModuleVersion == null) {
-											continue;
-										}
-
-										DefaultExternalLibraryDependency libraryDependency =
-											new DefaultExternalLibraryDependency();
-
-										libraryDependency.setName(gradleModuleVersion.getName());
-
-										libraryDependency.setGroup(gradleModuleVersion.getGroup());
-
-										libraryDependency.setVersion(gradleModuleVersion.getVersion());
+						if (!workspaceDependencies.isEmpty()) {
+							Set<String> coordinates = new HashSet<>();
 
-										libraryDependency.setFile(jarFile);
-
-										libraryDependency.setSource(ideaDependency.getSource());
-
-										libraryDependency.setExported(ideaDependency.getExported());
+							for (ExternalDependency dependency : dependencies) {
+								coordinates.add(_getCoordinates(dependency));
+							}
 
-										dependencies.add(libraryDependency);
-									}
+							for (ExternalLibraryDependency workspaceDependency : workspaceDependencies) {
+								if (coordinates.add(_getCoordinates(workspaceDependency))) {
+									dependencies.add(workspaceDependency);
 								}
 							}
 						}
@@ -147,9 +140,20 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 					}
 
 				});
+
+			if (workspaceRootModule) {
+				_LOG.info(
+					"Populated " + workspaceDependencies.size() + " workspace dependencies of " +
+						gradleModule.getName() + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) +
+							" ms");
+			}
 		}
 	}
 
+	private static String _getCoordinates(ExternalDependency dependency) {
+		return dependency.getGroup() + ":" + dependency.getName() + ":" + dependency.getVersion();
+	}
+
 	@Nullable
 	private static ExternalProject _getExternalProject(
 		@NotNull IdeaModule ideaModule, @NotNull ProjectResolverContext resolverCtx) {
@@ -163,6 +167,91 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 		return externalProject;
 	}
 
+	/**
+	 * Converts the jars of the workspace root module once, dropping duplicate
+	 * coordinates and sharing coordinate strings, so that the same list can be
+	 * handed to every source set.
+	 */
+	private static Collection<ExternalLibraryDependency> _getWorkspaceDependencies(IdeaModule ideaModule) {
+		Map<String, ExternalLibraryDependency> workspaceDependencies = new LinkedHashMap<>();
+		Map<String, String> strings = new HashMap<>();
+
+		for (IdeaDependency dependency : ideaModule.getDependencies()) {
+			if (!(dependency instanceof IdeaSingleEntryLibraryDependency)) {
+				continue;
+			}
+
+			IdeaSingleEntryLibraryDependency ideaDependency = (IdeaSingleEntryLibraryDependency)dependency;
+
+			File jarFile = ideaDependency.getFile();
+
+			String jarName = jarFile.getName();
+
+			if (!jarName.endsWith(".jar")) {
+				continue;
+			}
+
+			GradleModuleVersion gradleModuleVersion = ideaDependency.getGradleModuleVersion();
+
+			if (gradleModuleVersion == null) {
+				continue;
+			}
+
+			String group = _intern(strings, gradleModuleVersion.getGroup());
+			String name = _intern(strings, gradleModuleVersion.getName());
+			String version = _intern(strings, gradleModuleVersion.getVersion());
+
+			workspaceDependencies.computeIfAbsent(
+				group + ":" + name + ":" + version,
+				coordinates -> {
+					DefaultExternalLibraryDependency libraryDependency = new DefaultExternalLibraryDependency();
+
+					libraryDependency.setName(name);
+
+					libraryDependency.setGroup(group);
+
+					libraryDependency.setVersion(version);
+
+					libraryDependency.setFile(jarFile);
+
+					libraryDependency.setSource(ideaDependency.getSource());
+
+					libraryDependency.setExported(ideaDependency.getExported());
+
+					return libraryDependency;
+				});
+		}
+
+		return workspaceDependencies.values();
+	}
+
+	private static String _intern(Map<String, String> strings, String value) {
+		if (value == null) {
+			return null;
+		}
+
+		return strings.computeIfAbsent(value, key -> key);
+	}
+
+	/**
+	 * The project data node lives for a single import, so the workspace check
+	 * only runs once per import instead of once per module.
+	 */
+	private static boolean _isValidGradleWorkspaceLocation(
+		@NotNull DataNode<ProjectData> ideProject, String ideProjectFileDirectoryPath) {
+
+		Boolean validGradleWorkspaceLocation = ideProject.getUserData(_VALID_GRADLE_WORKSPACE_LOCATION);
+
+		if (validGradleWorkspaceLocation == null) {
+			validGradleWorkspaceLocation = LiferayWorkspaceSupport.isValidGradleWorkspaceLocation(
+				ideProjectFileDirectoryPath);
+
+			ideProject.putUserData(_VALID_GRADLE_WORKSPACE_LOCATION, validGradleWorkspaceLocation);
+		}
+
+		return validGradleWorkspaceLocation;
+	}
+
 	private static void _processSourceSets(
 		@NotNull ProjectResolverContext resolverCtx, @NotNull IdeaModule ideaModule,
 		@NotNull ExternalProject externalProject, @NotNull DataNode<ModuleData> moduleData,
@@ -201,6 +290,9 @@ public class LiferayGradleProjectResolverExtension extends AbstractProjectResolv
 
 	private static final Logger _LOG = Logger.getInstance(LiferayGradleProjectResolverExtension.class);
 
+	private static final Key<Boolean> _VALID_GRADLE_WORKSPACE_LOCATION = Key.create(
+		"LIFERAY_VALID_GRADLE_WORKSPACE_LOCATION");
+
 	private interface SourceSetsProcessor {
 
 		public void process(
@@ -14,44 +14,23 @@
 
 package com.liferay.ide.idea.core;
 
-import com.google.common.collect.ListMultimap;
-
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.projectRoots.impl.JavaHomeFinder;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 
 import com.liferay.ide.idea.util.CoreUtil;
-import com.liferay.ide.idea.util.GradleDependency;
-import com.liferay.ide.idea.util.GradleDependencyUpdater;
 import com.liferay.ide.idea.util.GradleUtil;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 import com.liferay.ide.idea.util.PropertiesUtil;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.io.StringReader;
-
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
-import java.util.regex.Pattern;
-
-import org.gradle.tooling.GradleConnector;
-import org.gradle.tooling.model.DomainObjectSet;
-import org.gradle.tooling.model.GradleProject;
-import org.gradle.tooling.model.GradleTask;
 
 import org.osgi.framework.Version;
 
@@ -79,132 +58,12 @@ public class LiferayGradleWorkspaceProvider extends AbstractWorkspaceProvider {
 		return getWorkspaceProperty(WorkspaceConstants.HOME_DIR_PROPERTY, WorkspaceConstants.HOME_DIR_DEFAULT);
 	}
 
+	@Override
 	public List<String> getTargetPlatformDependencies() {
-		String targetPlatformVersion = getTargetPlatformVersion();
-
-		List<String> targetPlatformDependencyList = targetPlatformDependenciesMap.get(targetPlatformVersion);
-
-		if ((targetPlatformDependencyList != null) && !targetPlatformDependencyList.isEmpty()) {
-			return targetPlatformDependencyList;
-		}
-
-		List<String> javaHomePaths = JavaHomeFinder.suggestHomePaths();
-
-		File javaHomeFile = null;
-
-		if (javaHomePaths.isEmpty()) {
-			String pathEnv = System.getenv("PATH");
-
-			String[] paths = pathEnv.split(Pattern.quote(File.pathSeparator));
-
-			for (String pathValue : paths) {
-				Path path = Paths.get(pathValue);
-
-				Path javaPath = path.resolve("java");
-
-				if (Files.exists(javaPath)) {
-					javaHomeFile = javaPath.toFile();
-
-					javaHomeFile = javaHomeFile.getParentFile();
-
-					javaHomeFile = javaHomeFile.getParentFile();
-
-					break;
-				}
-			}
-
-			if (javaHomeFile == null) {
-				javaHomeFile = new File(System.getProperty("java.home"));
-			}
-		}
-		else {
-			javaHomeFile = new File(javaHomePaths.get(0));
-		}
-
-		if (!javaHomeFile.exists()) {
-			return Collections.emptyList();
-		}
-
-		GradleProject workspaceGradleProject = GradleUtil.getWorkspaceGradleProject(project);
-
-		DomainObjectSet<? extends GradleTask> tasksSet = workspaceGradleProject.getTasks();
-
-		List<? extends GradleTask> tasksList = tasksSet.getAll();
-
-		Optional<? extends GradleTask> dependencyManagementTask = tasksList.stream(
-		).filter(
-			task -> StringUtil.equals("dependencyManagement", task.getName())
-		).filter(
-			task -> workspaceGradleProject.equals(task.getProject())
-		).findAny();
-
-		List<String> list = new ArrayList<>();
+		LiferayTargetPlatformDependencyService targetPlatformDependencyService =
+			LiferayTargetPlatformDependencyService.getInstance(project);
 
-		if (dependencyManagementTask.isPresent()) {
-			File file = new File(project.getBasePath());
-
-			OutputStream outputStream = new ByteArrayOutputStream();
-
-			GradleConnector.newConnector(
-			).forProjectDirectory(
-				file
-			).connect(
-			).newBuild(
-			).setJavaHome(
-				javaHomeFile
-			).addArguments(
-				"--rerun-tasks"
-			).forTasks(
-				"dependencyManagement"
-			).setStandardOutput(
-				outputStream
-			).run();
-
-			String output = outputStream.toString();
-
-			String taskOutputInfo;
-
-			if (CoreUtil.compareVersions(
-					new Version(GradleUtil.getWorkspacePluginVersion(project)), new Version("2.2.4")) < 0) {
-
-				taskOutputInfo = "compileOnly - Dependency management for the compileOnly configuration";
-			}
-			else {
-				taskOutputInfo = "> Task :dependencyManagement";
-			}
-
-			if (!CoreUtil.isNullOrEmpty(output) && !output.equals("")) {
-				BufferedReader bufferedReader = new BufferedReader(new StringReader(output));
-
-				String line;
-
-				try {
-					boolean start = false;
-
-					while ((line = bufferedReader.readLine()) != null) {
-						if (taskOutputInfo.equals(line)) {
-							start = true;
-
-							continue;
-						}
-
-						if (start) {
-							if (StringUtil.equals(line.trim(), "")) {
-								break;
-							}
-
-							list.add(line.trim());
-						}
-					}
-				}
-				catch (IOException ioe) {
-				}
-			}
-		}
-
-		targetPlatformDependenciesMap.put(targetPlatformVersion, list);
-
-		return list;
+		return targetPlatformDependencyService.getDependencies();
 	}
 
 	@Override
@@ -269,19 +128,13 @@ public class LiferayGradleWorkspaceProvider extends AbstractWorkspaceProvider {
 
 	@Override
 	public String getWorkspaceProperty(String key, String defaultValue) {
-		File gradleProperties = new File(project.getBasePath(), "gradle.properties");
+		WorkspacePropertiesSnapshot workspacePropertiesSnapshot = _getWorkspacePropertiesSnapshot();
 
-		if (gradleProperties.exists()) {
-			Properties properties = PropertiesUtil.loadProperties(gradleProperties);
-
-			if (properties == null) {
-				return defaultValue;
-			}
-
-			return properties.getProperty(key, defaultValue);
+		if (workspacePropertiesSnapshot == null) {
+			return null;
 		}
 
-		return null;
+		return workspacePropertiesSnapshot.getProperty(key, defaultValue);
 	}
 
 	@Override
@@ -315,44 +168,10 @@ public class LiferayGradleWorkspaceProvider extends AbstractWorkspaceProvider {
 
 	@Override
 	public boolean isFlexibleLiferayWorkspace() {
-		File settingsGradleFile = new File(project.getBasePath(), "settings.gradle");
-
-		GradleDependencyUpdater gradleDependencyUpdater = null;
-
-		try {
-			gradleDependencyUpdater = new GradleDependencyUpdater(settingsGradleFile);
-		}
-		catch (IOException ioe) {
-		}
+		LiferayWorkspacePluginVersionService workspacePluginVersionService =
+			LiferayWorkspacePluginVersionService.getInstance(project);
 
-		String pluginVersion = Optional.ofNullable(
-			gradleDependencyUpdater
-		).flatMap(
-			updater -> {
-				ListMultimap<String, GradleDependency> dependencies = updater.getAllDependencies();
-
-				List<GradleDependency> artifacts = new ArrayList<>(dependencies.values());
-
-				return artifacts.stream(
-				).filter(
-					artifact -> Objects.equals("com.liferay", artifact.getGroup())
-				).filter(
-					artifact -> Objects.equals("com.liferay.gradle.plugins.workspace", artifact.getName())
-				).filter(
-					artifact -> !CoreUtil.isNullOrEmpty(artifact.getVersion())
-				).map(
-					GradleDependency::getVersion
-				).findFirst();
-			}
-		).orElseGet(
-			() -> "2.2.4"
-		);
-
-		if (CoreUtil.compareVersions(new Version(pluginVersion), new Version("2.5.0")) >= 0) {
-			return true;
-		}
-
-		return false;
+		return workspacePluginVersionService.isFlexibleLiferayWorkspace();
 	}
 
 	public boolean isGradleWorkspace() {
@@ -368,6 +187,113 @@ public class LiferayGradleWorkspaceProvider extends AbstractWorkspaceProvider {
 		return null;
 	}
 
-	public Map<String, List<String>> targetPlatformDependenciesMap = new HashMap<>();
+	private static long _getModificationStamp(VirtualFile virtualFile) {
+		if ((virtualFile == null) || !virtualFile.isValid()) {
+			return -1;
+		}
+
+		return virtualFile.getModificationStamp();
+	}
+
+	private WorkspacePropertiesSnapshot _getWorkspacePropertiesSnapshot() {
+		String projectBasePath = project.getBasePath();
+
+		if (projectBasePath == null) {
+			return null;
+		}
+
+		LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+
+		VirtualFile gradlePropertiesFile = localFileSystem.findFileByPath(
+			projectBasePath + "/" + LiferayWorkspaceSupport.GRADLE_PROPERTIES_FILE_NAME);
+
+		long gradlePropertiesStamp = _getModificationStamp(gradlePropertiesFile);
+
+		if (gradlePropertiesStamp == -1) {
+			return null;
+		}
+
+		VirtualFile gradleLocalPropertiesFile = localFileSystem.findFileByPath(
+			projectBasePath + "/" + _GRADLE_LOCAL_PROPERTIES_FILE_NAME);
+
+		long gradleLocalPropertiesStamp = _getModificationStamp(gradleLocalPropertiesFile);
+
+		WorkspacePropertiesSnapshot workspacePropertiesSnapshot = _workspacePropertiesSnapshot;
+
+		if ((workspacePropertiesSnapshot != null) &&
+			workspacePropertiesSnapshot.isUpToDate(gradlePropertiesStamp, gradleLocalPropertiesStamp)) {
+
+			return workspacePropertiesSnapshot;
+		}
+
+		Properties properties = PropertiesUtil.loadProperties(VfsUtilCore.virtualToIoFile(gradlePropertiesFile));
+
+		if ((properties != null) && (gradleLocalPropertiesStamp != -1)) {
+			Properties localProperties = PropertiesUtil.loadProperties(
+				VfsUtilCore.virtualToIoFile(gradleLocalPropertiesFile));
+
+			if (localProperties != null) {
+				properties.putAll(localProperties);
+			}
+		}
+
+		workspacePropertiesSnapshot = new WorkspacePropertiesSnapshot(
+			gradlePropertiesStamp, gradleLocalPropertiesStamp, properties);
+
+		_workspacePropertiesSnapshot = workspacePropertiesSnapshot;
+
+		return workspacePropertiesSnapshot;
+	}
+
+	private static final String _GRADLE_LOCAL_PROPERTIES_FILE_NAME = "gradle-local.properties";
+
+	private volatile WorkspacePropertiesSnapshot _workspacePropertiesSnapshot;
+
+	private static class WorkspacePropertiesSnapshot {
+
+		public String getProperty(String key, String defaultValue) {
+			if (_properties == null) {
+				return defaultValue;
+			}
+
+			return _properties.getOrDefault(key, defaultValue);
+		}
+
+		public boolean isUpToDate(long gradlePropertiesStamp, long gradleLocalPropertiesStamp) {
+			if ((_gradlePropertiesStamp == gradlePropertiesStamp) &&
+				(_gradleLocalPropertiesStamp == gradleLocalPropertiesStamp)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		private WorkspacePropertiesSnapshot(
+			long gradlePropertiesStamp, long gradleLocalPropertiesStamp, Properties properties) {
+
+			_gradlePropertiesStamp = gradlePropertiesStamp;
+			_gradleLocalPropertiesStamp = gradleLocalPropertiesStamp;
+
+			if (properties == null) {
+				_properties = null;
+
+				return;
+			}
+
+			Map<String, String> map = new HashMap<>();
+
+			for (String name : properties.stringPropertyNames()) {
+				map.put(name, properties.getProperty(name));
+			}
+
+			_properties = Collections.unmodifiableMap(map);
+		}
+
+		private final long _gradleLocalPropertiesStamp;
+		private final long _gradlePropertiesStamp;
+		private final Map<String, String> _properties;
+
+	}
 
 }
\ No newline at end of file
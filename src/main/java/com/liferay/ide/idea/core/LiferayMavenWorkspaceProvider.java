@@ -15,14 +15,18 @@
 package com.liferay.ide.idea.core;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
 
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
-import com.liferay.ide.idea.util.MavenUtil;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
 import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
 
 /**
  * @author Simon Jiang
@@ -33,16 +37,12 @@ public class LiferayMavenWorkspaceProvider extends AbstractWorkspaceProvider {
 	}
 
 	public LiferayMavenWorkspaceProvider(Project project) {
-		super(project);
+		this(project, _createWorkspaceModel(project));
 	}
 
 	@Override
 	public String getLiferayHome() {
-		MavenProject mavenWorkspaceProject = MavenUtil.getWorkspaceMavenProject(project);
-
-		Properties properties = mavenWorkspaceProject.getProperties();
-
-		return properties.getProperty(WorkspaceConstants.MAVEN_HOME_DIR_PROPERTY, WorkspaceConstants.HOME_DIR_DEFAULT);
+		return getWorkspaceProperty(WorkspaceConstants.MAVEN_HOME_DIR_PROPERTY, WorkspaceConstants.HOME_DIR_DEFAULT);
 	}
 
 	@Override
@@ -69,11 +69,11 @@ public class LiferayMavenWorkspaceProvider extends AbstractWorkspaceProvider {
 
 	@Override
 	public String getWorkspaceProperty(String key, String defaultValue) {
-		MavenProject mavenWorkspaceProject = MavenUtil.getWorkspaceMavenProject(project);
-
-		Properties properties = mavenWorkspaceProject.getProperties();
+		if (_workspaceModel == null) {
+			return defaultValue;
+		}
 
-		return properties.getProperty(key, defaultValue);
+		return _workspaceModel._properties.getOrDefault(key, defaultValue);
 	}
 
 	@Override
@@ -89,20 +89,82 @@ public class LiferayMavenWorkspaceProvider extends AbstractWorkspaceProvider {
 
 	@Override
 	public boolean isFlexibleLiferayWorkspace() {
-		MavenProject mavenWorkspaceProject = MavenUtil.getWorkspaceMavenProject(project);
-
-		Properties properties = mavenWorkspaceProject.getProperties();
-
-		return Objects.nonNull(properties.getProperty(WorkspaceConstants.WORKSPACE_BOM_VERSION, null));
+		return Objects.nonNull(getWorkspaceProperty(WorkspaceConstants.WORKSPACE_BOM_VERSION, null));
 	}
 
 	@Override
 	public <T> T provide(Project project, Class<T> adapterType) {
-		if (LiferayWorkspaceSupport.isValidMavenWorkspaceProject(project)) {
-			return adapterType.cast(new LiferayMavenWorkspaceProvider(project));
+		MavenWorkspaceModel workspaceModel = _createWorkspaceModel(project);
+
+		if ((workspaceModel != null) && workspaceModel._bundleSupportPlugin) {
+			return adapterType.cast(new LiferayMavenWorkspaceProvider(project, workspaceModel));
 		}
 
 		return null;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Takes an immutable snapshot of the workspace POM. The provider itself is
+	 * cached by {@link LiferayWorkspaceProviderService}, which drops it on Maven
+	 * import and project tree changes, so the snapshot is never stale for long.
+	 */
+	private static MavenWorkspaceModel _createWorkspaceModel(Project project) {
+		if (project == null) {
+			return null;
+		}
+
+		try {
+			MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(project);
+
+			if (!mavenProjectsManager.isMavenizedProject()) {
+				return null;
+			}
+
+			VirtualFile workspaceVirtualFile = LiferayWorkspaceSupport.getWorkspaceVirtualFile(project);
+
+			if (workspaceVirtualFile == null) {
+				return null;
+			}
+
+			MavenProject mavenWorkspaceProject = mavenProjectsManager.findContainingProject(workspaceVirtualFile);
+
+			if (mavenWorkspaceProject == null) {
+				return null;
+			}
+
+			return new MavenWorkspaceModel(
+				mavenWorkspaceProject.getProperties(),
+				mavenWorkspaceProject.findPlugin("com.liferay", "com.liferay.portal.tools.bundle.support") != null);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	private LiferayMavenWorkspaceProvider(Project project, MavenWorkspaceModel workspaceModel) {
+		super(project);
+
+		_workspaceModel = workspaceModel;
+	}
+
+	private MavenWorkspaceModel _workspaceModel;
+
+	private static class MavenWorkspaceModel {
+
+		private MavenWorkspaceModel(Properties properties, boolean bundleSupportPlugin) {
+			Map<String, String> map = new HashMap<>();
+
+			for (String key : properties.stringPropertyNames()) {
+				map.put(key, properties.getProperty(key));
+			}
+
+			_properties = Collections.unmodifiableMap(map);
+			_bundleSupportPlugin = bundleSupportPlugin;
+		}
+
+		private final boolean _bundleSupportPlugin;
+		private final Map<String, String> _properties;
+
+	}
+
+}
@@ -26,6 +26,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.MessageBus;
 import com.intellij.util.messages.MessageBusConnection;
 
+import com.liferay.ide.idea.util.BladeCLI;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 import com.liferay.ide.idea.util.ProjectConfigurationUtil;
 
@@ -48,6 +49,10 @@ public class LiferayPostStartupActivity implements DumbAware, LiferayWorkspaceSu
 			return;
 		}
 
+		Application application = ApplicationManager.getApplication();
+
+		application.executeOnPooledThread(BladeCLI::prewarm);
+
 		projectDirVirtualFile.refresh(false, true);
 
 		MessageBus messageBus = project.getMessageBus();
@@ -60,14 +65,19 @@ public class LiferayPostStartupActivity implements DumbAware, LiferayWorkspaceSu
 			() -> messageBusConnection.subscribe(
 				ProjectDataImportListener.TOPIC,
 				projectPath -> {
-					Application application = ApplicationManager.getApplication();
-
 					application.runReadAction(
 						() -> {
 							if (projectPath.equals(project.getBasePath())) {
 								ProjectConfigurationUtil.configExcludedFolder(project, getHomeDir(project));
 							}
 						});
+
+					if (projectPath.equals(project.getBasePath())) {
+						LiferayTargetPlatformDependencyService targetPlatformDependencyService =
+							LiferayTargetPlatformDependencyService.getInstance(project);
+
+						targetPlatformDependencyService.refreshInBackground();
+					}
 				}));
 
 		messageBusConnection.subscribe(
@@ -86,8 +96,6 @@ public class LiferayPostStartupActivity implements DumbAware, LiferayWorkspaceSu
 
 						mvnManager.forceUpdateAllProjectsOrFindAllAvailablePomFiles();
 
-						Application application = ApplicationManager.getApplication();
-
 						application.runReadAction(
 							() -> {
 								String homeDir = getMavenProperty(
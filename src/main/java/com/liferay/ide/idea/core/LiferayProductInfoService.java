@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import com.intellij.openapi.components.ServiceManager;
+
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parses .liferay/workspace/.product_info.json once per modification of the
+ * file and keeps the products indexed by key and target platform version.
+ *
+ * @author agent
+ */
+public class LiferayProductInfoService {
+
+	public static LiferayProductInfoService getInstance() {
+		return ServiceManager.getService(LiferayProductInfoService.class);
+	}
+
+	public LiferayProductInfoService() {
+		this(LiferayWorkspaceSupport._workspaceCacheFile);
+	}
+
+	public LiferayProductInfoService(File productInfoFile) {
+		_productInfoFile = productInfoFile;
+	}
+
+	@Nullable
+	public ProductInfo getProductInfo(String productKey) throws IOException {
+		ProductCatalogue productCatalogue = _getProductCatalogue();
+
+		return productCatalogue._productInfos.get(productKey);
+	}
+
+	@NotNull
+	public Map<String, ProductInfo> getProductInfos() throws IOException {
+		ProductCatalogue productCatalogue = _getProductCatalogue();
+
+		return productCatalogue._productInfos;
+	}
+
+	@NotNull
+	public List<ProductInfo> getProductInfosByTargetPlatformVersion(String targetPlatformVersion)
+		throws IOException {
+
+		ProductCatalogue productCatalogue = _getProductCatalogue();
+
+		return productCatalogue._targetPlatformVersionProductInfos.getOrDefault(
+			targetPlatformVersion, Collections.emptyList());
+	}
+
+	protected static Map<String, ProductInfo> readProductInfos(Reader reader) throws IOException {
+		Map<String, ProductInfo> productInfos = new LinkedHashMap<>();
+
+		try (JsonReader jsonReader = new JsonReader(reader)) {
+			jsonReader.beginObject();
+
+			while (jsonReader.hasNext()) {
+				String productKey = jsonReader.nextName();
+
+				if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+					jsonReader.skipValue();
+
+					continue;
+				}
+
+				productInfos.put(productKey, _readProductInfo(jsonReader));
+			}
+
+			jsonReader.endObject();
+		}
+
+		return productInfos;
+	}
+
+	private static String _nextString(JsonReader jsonReader) throws IOException {
+		if (jsonReader.peek() == JsonToken.NULL) {
+			jsonReader.nextNull();
+
+			return null;
+		}
+
+		return jsonReader.nextString();
+	}
+
+	private static ProductInfo _readProductInfo(JsonReader jsonReader) throws IOException {
+		String appServerTomcatVersion = null;
+		String bundleUrl = null;
+		boolean initialVersion = false;
+		String liferayDockerImage = null;
+		String liferayProductVersion = null;
+		String releaseDate = null;
+		String targetPlatformVersion = null;
+
+		jsonReader.beginObject();
+
+		while (jsonReader.hasNext()) {
+			String name = jsonReader.nextName();
+
+			switch (name) {
+				case "appServerTomcatVersion":
+					appServerTomcatVersion = _nextString(jsonReader);
+
+					break;
+				case "bundleUrl":
+					bundleUrl = _nextString(jsonReader);
+
+					break;
+				case "initialVersion":
+					if (jsonReader.peek() == JsonToken.BOOLEAN) {
+						initialVersion = jsonReader.nextBoolean();
+					}
+					else {
+						initialVersion = Boolean.parseBoolean(_nextString(jsonReader));
+					}
+
+					break;
+				case "liferayDockerImage":
+					liferayDockerImage = _nextString(jsonReader);
+
+					break;
+				case "liferayProductVersion":
+					liferayProductVersion = _nextString(jsonReader);
+
+					break;
+				case "releaseDate":
+					releaseDate = _nextString(jsonReader);
+
+					break;
+				case "targetPlatformVersion":
+					targetPlatformVersion = _nextString(jsonReader);
+
+					break;
+				default:
+					jsonReader.skipValue();
+			}
+		}
+
+		jsonReader.endObject();
+
+		return new ProductInfo(
+			appServerTomcatVersion, bundleUrl, initialVersion, liferayDockerImage, liferayProductVersion, releaseDate,
+			targetPlatformVersion);
+	}
+
+	private ProductCatalogue _getProductCatalogue() throws IOException {
+		long lastModified = _productInfoFile.lastModified();
+		long length = _productInfoFile.length();
+
+		ProductCatalogue productCatalogue = _productCatalogue;
+
+		if ((productCatalogue != null) && (productCatalogue._lastModified == lastModified) &&
+			(productCatalogue._length == length)) {
+
+			return productCatalogue;
+		}
+
+		synchronized (this) {
+			productCatalogue = _productCatalogue;
+
+			if ((productCatalogue != null) && (productCatalogue._lastModified == lastModified) &&
+				(productCatalogue._length == length)) {
+
+				return productCatalogue;
+			}
+
+			try (Reader reader = Files.newBufferedReader(_productInfoFile.toPath(), StandardCharsets.UTF_8)) {
+				productCatalogue = new ProductCatalogue(lastModified, length, readProductInfos(reader));
+			}
+
+			_productCatalogue = productCatalogue;
+
+			return productCatalogue;
+		}
+	}
+
+	private volatile ProductCatalogue _productCatalogue;
+	private final File _productInfoFile;
+
+	private static class ProductCatalogue {
+
+		private ProductCatalogue(long lastModified, long length, Map<String, ProductInfo> productInfos) {
+			_lastModified = lastModified;
+			_length = length;
+			_productInfos = Collections.unmodifiableMap(productInfos);
+
+			Map<String, List<ProductInfo>> targetPlatformVersionProductInfos = new HashMap<>();
+
+			for (ProductInfo productInfo : productInfos.values()) {
+				String targetPlatformVersion = productInfo.getTargetPlatformVersion();
+
+				if (targetPlatformVersion == null) {
+					continue;
+				}
+
+				List<ProductInfo> list = targetPlatformVersionProductInfos.computeIfAbsent(
+					targetPlatformVersion, key -> new ArrayList<>());
+
+				list.add(productInfo);
+			}
+
+			_targetPlatformVersionProductInfos = Collections.unmodifiableMap(targetPlatformVersionProductInfos);
+		}
+
+		private final long _lastModified;
+		private final long _length;
+		private final Map<String, ProductInfo> _productInfos;
+		private final Map<String, List<ProductInfo>> _targetPlatformVersionProductInfos;
+
+	}
+
+}
@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.projectRoots.impl.JavaHomeFinder;
+import com.intellij.openapi.util.text.StringUtil;
+
+import com.liferay.ide.idea.util.CoreUtil;
+import com.liferay.ide.idea.util.GradleUtil;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import org.gradle.tooling.model.DomainObjectSet;
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.GradleTask;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.osgi.framework.Version;
+
+/**
+ * Keeps the output of the workspace dependencyManagement task in
+ * ~/.liferay/workspace/target-platform, keyed by target platform version and
+ * workspace plugin version, so it only has to be computed once per combination.
+ *
+ * @author agent
+ */
+public class LiferayTargetPlatformDependencyService {
+
+	public static LiferayTargetPlatformDependencyService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayTargetPlatformDependencyService.class);
+	}
+
+	public LiferayTargetPlatformDependencyService(@NotNull Project project) {
+		_project = project;
+	}
+
+	/**
+	 * Returns the cached dependencies, computing them with a Gradle build when
+	 * no catalogue exists yet. Must not be called on the event dispatch thread.
+	 */
+	@NotNull
+	public List<String> getDependencies() {
+		String catalogueKey = _getCatalogueKey();
+
+		if (catalogueKey == null) {
+			return Collections.emptyList();
+		}
+
+		List<String> dependencies = _getCachedDependencies(catalogueKey);
+
+		if (dependencies != null) {
+			return dependencies;
+		}
+
+		synchronized (this) {
+			dependencies = _getCachedDependencies(catalogueKey);
+
+			if (dependencies != null) {
+				return dependencies;
+			}
+
+			dependencies = _computeDependencies();
+
+			if (!dependencies.isEmpty()) {
+				_dependencies.put(catalogueKey, dependencies);
+
+				_writeCatalogue(catalogueKey, dependencies);
+			}
+
+			return dependencies;
+		}
+	}
+
+	/**
+	 * Returns the dependencies only when they are already known in memory or on
+	 * disk, never starting a Gradle build.
+	 */
+	@Nullable
+	public List<String> getCachedDependencies() {
+		String catalogueKey = _getCatalogueKey();
+
+		if (catalogueKey == null) {
+			return null;
+		}
+
+		return _getCachedDependencies(catalogueKey);
+	}
+
+	/**
+	 * Fills the catalogue on a pooled thread. The returned future completes
+	 * with the dependencies, or with an empty list when the project is not a
+	 * Gradle workspace.
+	 */
+	@NotNull
+	public Future<List<String>> refreshInBackground() {
+		Application application = ApplicationManager.getApplication();
+
+		return application.executeOnPooledThread(
+			() -> {
+				if (_project.isDisposed()) {
+					return Collections.emptyList();
+				}
+
+				WorkspaceProvider workspaceProvider = LiferayCore.getWorkspaceProvider(_project);
+
+				if ((workspaceProvider == null) || !workspaceProvider.isGradleWorkspace()) {
+					return Collections.emptyList();
+				}
+
+				return getDependencies();
+			});
+	}
+
+	private static List<String> _readCatalogue(Path cataloguePath) {
+		if (Files.notExists(cataloguePath)) {
+			return null;
+		}
+
+		try {
+			List<String> lines = Files.readAllLines(cataloguePath, StandardCharsets.UTF_8);
+
+			if (lines.isEmpty()) {
+				return null;
+			}
+
+			return Collections.unmodifiableList(lines);
+		}
+		catch (IOException ioe) {
+			return null;
+		}
+	}
+
+	private static void _writeCatalogue(String catalogueKey, List<String> dependencies) {
+		Path cataloguePath = _catalogueDir.resolve(catalogueKey);
+
+		try {
+			Files.createDirectories(_catalogueDir);
+
+			Path tempPath = Files.createTempFile(_catalogueDir, catalogueKey, ".tmp");
+
+			try {
+				Files.write(tempPath, dependencies, StandardCharsets.UTF_8);
+
+				Files.move(
+					tempPath, cataloguePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			finally {
+				Files.deleteIfExists(tempPath);
+			}
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	private List<String> _computeDependencies() {
+		File javaHomeFile = _getJavaHome();
+
+		if (!javaHomeFile.exists()) {
+			return Collections.emptyList();
+		}
+
+		GradleProject workspaceGradleProject = GradleUtil.getWorkspaceGradleProject(_project);
+
+		DomainObjectSet<? extends GradleTask> tasksSet = workspaceGradleProject.getTasks();
+
+		List<? extends GradleTask> tasksList = tasksSet.getAll();
+
+		Optional<? extends GradleTask> dependencyManagementTask = tasksList.stream(
+		).filter(
+			task -> StringUtil.equals("dependencyManagement", task.getName())
+		).filter(
+			task -> workspaceGradleProject.equals(task.getProject())
+		).findAny();
+
+		if (!dependencyManagementTask.isPresent()) {
+			return Collections.emptyList();
+		}
+
+		File file = new File(_project.getBasePath());
+
+		OutputStream outputStream = new ByteArrayOutputStream();
+
+		LiferayGradleConnectionManager gradleConnectionManager = LiferayGradleConnectionManager.getInstance(_project);
+
+		gradleConnectionManager.runBuild(
+			file, javaHomeFile, outputStream, null, new String[] {"--rerun-tasks"}, "dependencyManagement");
+
+		String output = outputStream.toString();
+
+		String taskOutputInfo;
+
+		if (CoreUtil.compareVersions(
+				new Version(GradleUtil.getWorkspacePluginVersion(_project)), new Version("2.2.4")) < 0) {
+
+			taskOutputInfo = "compileOnly - Dependency management for the compileOnly configuration";
+		}
+		else {
+			taskOutputInfo = "> Task :dependencyManagement";
+		}
+
+		List<String> list = new ArrayList<>();
+
+		if (!CoreUtil.isNullOrEmpty(output)) {
+			BufferedReader bufferedReader = new BufferedReader(new StringReader(output));
+
+			String line;
+
+			try {
+				boolean start = false;
+
+				while ((line = bufferedReader.readLine()) != null) {
+					if (taskOutputInfo.equals(line)) {
+						start = true;
+
+						continue;
+					}
+
+					if (start) {
+						if (StringUtil.equals(line.trim(), "")) {
+							break;
+						}
+
+						list.add(line.trim());
+					}
+				}
+			}
+			catch (IOException ioe) {
+			}
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+
+	private List<String> _getCachedDependencies(String catalogueKey) {
+		List<String> dependencies = _dependencies.get(catalogueKey);
+
+		if (dependencies != null) {
+			return dependencies;
+		}
+
+		dependencies = _readCatalogue(_catalogueDir.resolve(catalogueKey));
+
+		if (dependencies != null) {
+			_dependencies.put(catalogueKey, dependencies);
+		}
+
+		return dependencies;
+	}
+
+	private String _getCatalogueKey() {
+		WorkspaceProvider workspaceProvider = LiferayCore.getWorkspaceProvider(_project);
+
+		if ((workspaceProvider == null) || !workspaceProvider.isGradleWorkspace()) {
+			return null;
+		}
+
+		String targetPlatformVersion = workspaceProvider.getTargetPlatformVersion();
+
+		if (CoreUtil.isNullOrEmpty(targetPlatformVersion)) {
+			return null;
+		}
+
+		String workspacePluginVersion = GradleUtil.getWorkspacePluginVersion(_project);
+
+		return "dependencies-" + targetPlatformVersion + "-" + workspacePluginVersion + ".txt";
+	}
+
+	private File _getJavaHome() {
+		List<String> javaHomePaths = JavaHomeFinder.suggestHomePaths();
+
+		if (!javaHomePaths.isEmpty()) {
+			return new File(javaHomePaths.get(0));
+		}
+
+		String pathEnv = System.getenv("PATH");
+
+		String[] paths = pathEnv.split(Pattern.quote(File.pathSeparator));
+
+		for (String pathValue : paths) {
+			Path path = Paths.get(pathValue);
+
+			Path javaPath = path.resolve("java");
+
+			if (Files.exists(javaPath)) {
+				File javaHomeFile = javaPath.toFile();
+
+				javaHomeFile = javaHomeFile.getParentFile();
+
+				return javaHomeFile.getParentFile();
+			}
+		}
+
+		return new File(System.getProperty("java.home"));
+	}
+
+	private static final Path _catalogueDir = Paths.get(
+		System.getProperty("user.home"), ".liferay", "workspace", "target-platform");
+
+	private final Map<String, List<String>> _dependencies = new ConcurrentHashMap<>();
+	private final Project _project;
+
+}
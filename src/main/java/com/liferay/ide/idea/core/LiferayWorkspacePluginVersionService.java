@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.google.common.collect.ListMultimap;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+
+import com.liferay.ide.idea.util.CoreUtil;
+import com.liferay.ide.idea.util.GradleDependency;
+import com.liferay.ide.idea.util.GradleDependencyUpdater;
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.osgi.framework.Version;
+
+/**
+ * Memoizes the workspace plugin version declared in settings.gradle, keyed by
+ * the content hash of the file, so the Groovy AST is only built when the
+ * declaration can actually have changed.
+ *
+ * @author agent
+ */
+public class LiferayWorkspacePluginVersionService {
+
+	public static final String DEFAULT_WORKSPACE_PLUGIN_VERSION = "2.2.4";
+
+	public static LiferayWorkspacePluginVersionService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayWorkspacePluginVersionService.class);
+	}
+
+	public LiferayWorkspacePluginVersionService(@NotNull Project project) {
+		_project = project;
+	}
+
+	@NotNull
+	public String getWorkspacePluginVersion() {
+		return _getWorkspacePluginInfo().getVersion();
+	}
+
+	public boolean isFlexibleLiferayWorkspace() {
+		return _getWorkspacePluginInfo().isFlexible();
+	}
+
+	private static byte[] _getContentHash(byte[] content) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+			return messageDigest.digest(content);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static String _parseWorkspacePluginVersion(byte[] content) {
+		GradleDependencyUpdater gradleDependencyUpdater;
+
+		try {
+			gradleDependencyUpdater = new GradleDependencyUpdater(new String(content, StandardCharsets.UTF_8));
+		}
+		catch (Exception e) {
+			return DEFAULT_WORKSPACE_PLUGIN_VERSION;
+		}
+
+		ListMultimap<String, GradleDependency> dependencies = gradleDependencyUpdater.getAllDependencies();
+
+		Collection<GradleDependency> artifacts = dependencies.values();
+
+		return artifacts.stream(
+		).filter(
+			artifact -> Objects.equals("com.liferay", artifact.getGroup())
+		).filter(
+			artifact -> Objects.equals("com.liferay.gradle.plugins.workspace", artifact.getName())
+		).filter(
+			artifact -> !CoreUtil.isNullOrEmpty(artifact.getVersion())
+		).map(
+			GradleDependency::getVersion
+		).findFirst(
+		).orElse(
+			DEFAULT_WORKSPACE_PLUGIN_VERSION
+		);
+	}
+
+	private WorkspacePluginInfo _getWorkspacePluginInfo() {
+		WorkspacePluginInfo workspacePluginInfo = _workspacePluginInfo;
+
+		VirtualFile settingsGradleFile = null;
+
+		String projectBasePath = _project.getBasePath();
+
+		if (projectBasePath != null) {
+			LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+
+			settingsGradleFile = localFileSystem.findFileByPath(
+				projectBasePath + "/" + LiferayWorkspaceSupport.SETTINGS_GRADLE_FILE_NAME);
+		}
+
+		if ((settingsGradleFile == null) || !settingsGradleFile.isValid()) {
+			return _missingWorkspacePluginInfo;
+		}
+
+		long modificationStamp = settingsGradleFile.getModificationStamp();
+
+		if ((workspacePluginInfo != null) && (workspacePluginInfo._modificationStamp == modificationStamp)) {
+			return workspacePluginInfo;
+		}
+
+		byte[] content;
+
+		try {
+			content = settingsGradleFile.contentsToByteArray();
+		}
+		catch (IOException ioe) {
+			return _missingWorkspacePluginInfo;
+		}
+
+		byte[] contentHash = _getContentHash(content);
+
+		String version;
+
+		if ((workspacePluginInfo != null) && Arrays.equals(workspacePluginInfo._contentHash, contentHash)) {
+			version = workspacePluginInfo.getVersion();
+		}
+		else {
+			version = _parseWorkspacePluginVersion(content);
+		}
+
+		workspacePluginInfo = new WorkspacePluginInfo(modificationStamp, contentHash, version);
+
+		_workspacePluginInfo = workspacePluginInfo;
+
+		return workspacePluginInfo;
+	}
+
+	private static final WorkspacePluginInfo _missingWorkspacePluginInfo = new WorkspacePluginInfo(
+		-1, new byte[0], DEFAULT_WORKSPACE_PLUGIN_VERSION);
+
+	private final Project _project;
+	private volatile WorkspacePluginInfo _workspacePluginInfo;
+
+	private static class WorkspacePluginInfo {
+
+		public String getVersion() {
+			return _version;
+		}
+
+		public boolean isFlexible() {
+			return _flexible;
+		}
+
+		private WorkspacePluginInfo(long modificationStamp, byte[] contentHash, String version) {
+			_modificationStamp = modificationStamp;
+			_contentHash = contentHash;
+			_version = version;
+
+			boolean flexible = false;
+
+			try {
+				flexible = CoreUtil.compareVersions(new Version(version), _FLEXIBLE_WORKSPACE_VERSION) >= 0;
+			}
+			catch (IllegalArgumentException iae) {
+			}
+
+			_flexible = flexible;
+		}
+
+		private static final Version _FLEXIBLE_WORKSPACE_VERSION = new Version("2.5.0");
+
+		private final byte[] _contentHash;
+		private final boolean _flexible;
+		private final long _modificationStamp;
+		private final String _version;
+
+	}
+
+}
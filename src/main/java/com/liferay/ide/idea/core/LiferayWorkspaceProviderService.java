@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.externalSystem.service.project.manage.ProjectDataImportListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.util.PathUtil;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.util.FileUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.idea.maven.project.MavenImportListener;
+import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectChanges;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+import org.jetbrains.idea.maven.project.MavenProjectsTree;
+import org.jetbrains.idea.maven.server.NativeMavenProjectHolder;
+
+/**
+ * Resolves the workspace provider of a project once and keeps it until one of
+ * the workspace descriptor files in the project root changes, or until the
+ * project is reimported.
+ *
+ * @author agent
+ */
+public class LiferayWorkspaceProviderService implements Disposable {
+
+	public static LiferayWorkspaceProviderService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayWorkspaceProviderService.class);
+	}
+
+	public LiferayWorkspaceProviderService(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			VirtualFileManager.VFS_CHANGES,
+			new BulkFileListener() {
+
+				@Override
+				public void after(@NotNull List<? extends VFileEvent> events) {
+					for (VFileEvent event : events) {
+						if (_isWorkspaceFileEvent(event)) {
+							invalidate();
+
+							return;
+						}
+					}
+				}
+
+			});
+
+		messageBusConnection.subscribe(ProjectDataImportListener.TOPIC, projectPath -> invalidate());
+
+		messageBusConnection.subscribe(MavenImportListener.TOPIC, (projects, modules) -> invalidate());
+
+		String basePath = project.getBasePath();
+
+		if ((basePath != null) && FileUtil.exists(FileUtil.pathAppend(basePath, "pom.xml"))) {
+			MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(project);
+
+			mavenProjectsManager.addProjectsTreeListener(
+				new MavenProjectsTree.Listener() {
+
+					@Override
+					public void projectResolved(
+						@NotNull Pair<MavenProject, MavenProjectChanges> projectWithChanges,
+						@Nullable NativeMavenProjectHolder nativeMavenProject) {
+
+						invalidate();
+					}
+
+					@Override
+					public void projectsUpdated(
+						@NotNull List<Pair<MavenProject, MavenProjectChanges>> updated,
+						@NotNull List<MavenProject> deleted) {
+
+						invalidate();
+					}
+
+				},
+				this);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		invalidate();
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	@Nullable
+	public WorkspaceProvider getWorkspaceProvider() {
+		Optional<WorkspaceProvider> cachedWorkspaceProvider = _workspaceProvider;
+
+		if (cachedWorkspaceProvider != null) {
+			_hitCount.incrementAndGet();
+
+			return cachedWorkspaceProvider.orElse(null);
+		}
+
+		_missCount.incrementAndGet();
+
+		long modificationCount = _modificationCount.get();
+
+		WorkspaceProvider workspaceProvider = _findWorkspaceProvider();
+
+		synchronized (this) {
+			if (modificationCount == _modificationCount.get()) {
+				_workspaceProvider = Optional.ofNullable(workspaceProvider);
+			}
+		}
+
+		return workspaceProvider;
+	}
+
+	public synchronized void invalidate() {
+		_modificationCount.incrementAndGet();
+
+		_workspaceProvider = null;
+	}
+
+	private static Collection<WorkspaceProvider> _getWorkspaceProviders() {
+		if (_workspaceProviders == null) {
+			List<WorkspaceProvider> workspaceProviders = new ArrayList<>();
+
+			try {
+				ServiceLoader<WorkspaceProvider> serviceLoader = ServiceLoader.load(
+					WorkspaceProvider.class, LiferayWorkspaceProviderService.class.getClassLoader());
+
+				Iterator<WorkspaceProvider> iterator = serviceLoader.iterator();
+
+				while (iterator.hasNext()) {
+					workspaceProviders.add(iterator.next());
+				}
+			}
+			catch (Throwable e) {
+				Class<?> throwableClass = e.getClass();
+
+				System.err.println(
+					"Exception thrown while loading WorkspaceProvider." + System.lineSeparator() + "Exception: " +
+						throwableClass.getName() + ": " + e.getMessage());
+
+				Throwable cause = e.getCause();
+
+				if (cause != null) {
+					Class<?> throwableCauseClass = cause.getClass();
+
+					System.err.print(throwableCauseClass.getName() + ": " + cause.getMessage());
+				}
+			}
+
+			_workspaceProviders = Collections.unmodifiableList(workspaceProviders);
+		}
+
+		return _workspaceProviders;
+	}
+
+	private WorkspaceProvider _findWorkspaceProvider() {
+		for (WorkspaceProvider provider : _getWorkspaceProviders()) {
+			try {
+				WorkspaceProvider workspaceProvider = provider.provide(_project, WorkspaceProvider.class);
+
+				if (workspaceProvider != null) {
+					return workspaceProvider;
+				}
+			}
+			catch (Throwable th) {
+				throw new RuntimeException("getWorkspaceProvider error", th);
+			}
+		}
+
+		return null;
+	}
+
+	private boolean _isWorkspaceFile(String path) {
+		if (path == null) {
+			return false;
+		}
+
+		if (!_workspaceFileNames.contains(PathUtil.getFileName(path))) {
+			return false;
+		}
+
+		return Objects.equals(_project.getBasePath(), PathUtil.getParentPath(path));
+	}
+
+	private boolean _isWorkspaceFileEvent(VFileEvent event) {
+		if (_isWorkspaceFile(event.getPath())) {
+			return true;
+		}
+
+		if (event instanceof VFileMoveEvent) {
+			VFileMoveEvent moveEvent = (VFileMoveEvent)event;
+
+			return _isWorkspaceFile(moveEvent.getOldPath()) || _isWorkspaceFile(moveEvent.getNewPath());
+		}
+
+		if (event instanceof VFilePropertyChangeEvent) {
+			VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent)event;
+
+			if (propertyChangeEvent.isRename()) {
+				if (_isWorkspaceFile(propertyChangeEvent.getOldPath()) ||
+					_isWorkspaceFile(propertyChangeEvent.getNewPath())) {
+
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static final Set<String> _workspaceFileNames = new HashSet<>(
+		Arrays.asList("build.gradle", "gradle.properties", "pom.xml", "settings.gradle"));
+	private static volatile Collection<WorkspaceProvider> _workspaceProviders;
+
+	private final AtomicLong _hitCount = new AtomicLong();
+	private final AtomicLong _missCount = new AtomicLong();
+	private final AtomicLong _modificationCount = new AtomicLong();
+	private final Project _project;
+	private volatile Optional<WorkspaceProvider> _workspaceProvider;
+
+}
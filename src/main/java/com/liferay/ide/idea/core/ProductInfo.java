@@ -21,6 +21,22 @@ import com.google.gson.annotations.SerializedName;
  */
 public class ProductInfo {
 
+	public ProductInfo() {
+	}
+
+	public ProductInfo(
+		String appServerTomcatVersion, String bundleUrl, boolean initialVersion, String liferayDockerImage,
+		String liferayProductVersion, String releaseDate, String targetPlatformVersion) {
+
+		_appServerTomcatVersion = appServerTomcatVersion;
+		_bundleUrl = bundleUrl;
+		_initialVersion = initialVersion;
+		_liferayDockerImage = liferayDockerImage;
+		_liferayProductVersion = liferayProductVersion;
+		_releaseDate = releaseDate;
+		_targetPlatformVersion = targetPlatformVersion;
+	}
+
 	public String getAppServerTomcatVersion() {
 		return _appServerTomcatVersion;
 	}
@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.css;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Indexes the CSS class selectors of the stylesheets shipped in Liferay
+ * frontend and theme artifacts, such as the Clay CSS in
+ * com.liferay.frontend.css.*, so they can be completed in taglib attributes
+ * without opening the stylesheets.
+ *
+ * @author agent
+ */
+public class LiferayCssClassIndex extends ScalarIndexExtension<String> {
+
+	public static final ID<String, Void> NAME = ID.create("com.liferay.ide.idea.language.css.LiferayCssClassIndex");
+
+	/**
+	 * @return the sorted CSS classes of all frontend and theme artifacts of
+	 *         the project, cached until the project roots change. Keys that
+	 *         only exist in files outside of the project are left out.
+	 */
+	public static Set<String> getCssClasses(Project project) {
+		CachedValuesManager cachedValuesManager = CachedValuesManager.getManager(project);
+
+		return cachedValuesManager.getCachedValue(
+			project, _CSS_CLASSES_KEY,
+			() -> {
+				List<String> keys = new ArrayList<>();
+
+				FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+				GlobalSearchScope globalSearchScope = GlobalSearchScope.allScope(project);
+
+				fileBasedIndex.processAllKeys(NAME, keys::add, globalSearchScope, null);
+
+				// the keys may come from files of other projects or from stale
+				// entries, so each key is checked once the key processing is
+				// done, as the index must not be queried from inside it
+
+				Set<String> cssClasses = new TreeSet<>();
+
+				for (String key : keys) {
+					Collection<VirtualFile> virtualFiles = fileBasedIndex.getContainingFiles(
+						NAME, key, globalSearchScope);
+
+					if (!virtualFiles.isEmpty()) {
+						cssClasses.add(key);
+					}
+				}
+
+				return CachedValueProvider.Result.create(
+					Collections.unmodifiableSet(cssClasses), ProjectRootModificationTracker.getInstance(project));
+			},
+			false);
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, Void, FileContent> getIndexer() {
+		return fileContent -> {
+			Map<String, Void> cssClasses = new HashMap<>();
+
+			for (String cssClass : extractCssClasses(fileContent.getContentAsText())) {
+				cssClasses.put(cssClass, null);
+			}
+
+			return cssClasses;
+		};
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return virtualFile -> {
+			if (!_CSS_FILE_EXTENSION.equals(virtualFile.getExtension())) {
+				return false;
+			}
+
+			VirtualFile jarVirtualFile = VfsUtilCore.getVirtualFileForJar(virtualFile);
+
+			if (jarVirtualFile == null) {
+				return false;
+			}
+
+			return isFrontendArtifact(jarVirtualFile.getName());
+		};
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public ID<String, Void> getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getVersion() {
+		return 2;
+	}
+
+	/**
+	 * Collects the class names used in the selectors of a stylesheet. Only the
+	 * text in front of a rule block is looked at, so declarations, comments,
+	 * strings and at-rule preludes are ignored.
+	 */
+	protected static Set<String> extractCssClasses(CharSequence text) {
+		Set<String> cssClasses = new TreeSet<>();
+
+		StringBuilder prelude = new StringBuilder();
+
+		int length = text.length();
+
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+
+			if ((c == '/') && ((i + 1) < length) && (text.charAt(i + 1) == '*')) {
+				i = _indexOfCommentEnd(text, i + 2);
+			}
+			else if ((c == '"') || (c == '\'')) {
+				i = _indexOfStringEnd(text, i + 1, c);
+			}
+			else if (c == '{') {
+				_addCssClasses(prelude, cssClasses);
+
+				prelude.setLength(0);
+			}
+			else if ((c == '}') || (c == ';')) {
+				prelude.setLength(0);
+			}
+			else {
+				prelude.append(c);
+			}
+		}
+
+		return cssClasses;
+	}
+
+	/**
+	 * @return <code>true</code> for the com.liferay.frontend.css.* and
+	 *         com.liferay.frontend.theme.* artifacts and for theme archives
+	 *         named like "classic-theme-1.0.0.war"
+	 */
+	protected static boolean isFrontendArtifact(String jarFileName) {
+		Matcher matcher = _frontendArtifactPattern.matcher(jarFileName);
+
+		return matcher.matches();
+	}
+
+	private static void _addCssClasses(CharSequence selector, Set<String> cssClasses) {
+		int length = selector.length();
+
+		int start = 0;
+
+		while ((start < length) && Character.isWhitespace(selector.charAt(start))) {
+			start++;
+		}
+
+		if ((start == length) || (selector.charAt(start) == '@')) {
+			return;
+		}
+
+		for (int i = start; i < length; i++) {
+			if ((selector.charAt(i) != '.') || ((i + 1) == length) || !_isNameStart(selector.charAt(i + 1))) {
+				continue;
+			}
+
+			StringBuilder cssClass = new StringBuilder();
+
+			int j = i + 1;
+
+			while (j < length) {
+				char c = selector.charAt(j);
+
+				if ((c == '\\') && ((j + 1) < length)) {
+					cssClass.append(selector.charAt(j + 1));
+
+					j += 2;
+				}
+				else if (_isNameChar(c)) {
+					cssClass.append(c);
+
+					j++;
+				}
+				else {
+					break;
+				}
+			}
+
+			cssClasses.add(cssClass.toString());
+
+			i = j - 1;
+		}
+	}
+
+	private static int _indexOfCommentEnd(CharSequence text, int start) {
+		int length = text.length();
+
+		for (int i = start; (i + 1) < length; i++) {
+			if ((text.charAt(i) == '*') && (text.charAt(i + 1) == '/')) {
+				return i + 1;
+			}
+		}
+
+		return length;
+	}
+
+	private static int _indexOfStringEnd(CharSequence text, int start, char quote) {
+		int length = text.length();
+
+		for (int i = start; i < length; i++) {
+			char c = text.charAt(i);
+
+			if (c == '\\') {
+				i++;
+			}
+			else if ((c == quote) || (c == '\n')) {
+				return i;
+			}
+		}
+
+		return length;
+	}
+
+	private static boolean _isNameChar(char c) {
+		if (_isNameStart(c) || ((c >= '0') && (c <= '9'))) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean _isNameStart(char c) {
+		if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || (c == '_') || (c == '-') || (c == '\\') ||
+			(c >= 0x80)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final Key<CachedValue<Set<String>>> _CSS_CLASSES_KEY = Key.create("LIFERAY_CSS_CLASSES");
+
+	private static final String _CSS_FILE_EXTENSION = "css";
+
+	private static final Pattern _frontendArtifactPattern = Pattern.compile(
+		"com\\.liferay\\.frontend\\.(css|theme)\\..+|.+-theme(-\\d[\\w.]*)?\\.(jar|war)");
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.resourcebundle;
+
+import com.intellij.lang.properties.PropertiesFileType;
+import com.intellij.lang.properties.PropertiesImplUtil;
+import com.intellij.lang.properties.psi.PropertiesFile;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps the keys of Language*.properties files to the locale of each file
+ * that declares them, e.g. "" for Language.properties and "de" for
+ * Language_de.properties. Covers module sources as well as library and
+ * target platform source jars.
+ *
+ * @author agent
+ */
+public class LiferayLanguageKeyIndex extends FileBasedIndexExtension<String, String> {
+
+	public static final ID<String, String> NAME = ID.create(
+		"com.liferay.ide.idea.language.resourcebundle.LiferayLanguageKeyIndex");
+
+	/**
+	 * @return all language files in the scope, the default locale first
+	 */
+	public static List<PropertiesFile> getPropertiesFiles(Project project, GlobalSearchScope globalSearchScope) {
+		return getPropertiesFiles(project, _LANGUAGE_FILE_KEY, globalSearchScope);
+	}
+
+	/**
+	 * @return the language files in the scope that declare the key, the
+	 *         default locale first
+	 */
+	public static List<PropertiesFile> getPropertiesFiles(
+		Project project, String key, GlobalSearchScope globalSearchScope) {
+
+		List<Map.Entry<String, VirtualFile>> localeFiles = new ArrayList<>();
+
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		fileBasedIndex.processValues(
+			NAME, key, null,
+			(virtualFile, locale) -> {
+				localeFiles.add(new AbstractMap.SimpleImmutableEntry<>(locale, virtualFile));
+
+				return true;
+			},
+			globalSearchScope);
+
+		if (localeFiles.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		localeFiles.sort(Map.Entry.comparingByKey());
+
+		PsiManager psiManager = PsiManager.getInstance(project);
+
+		List<PropertiesFile> propertiesFiles = new ArrayList<>(localeFiles.size());
+
+		for (Map.Entry<String, VirtualFile> localeFile : localeFiles) {
+			VirtualFile virtualFile = localeFile.getValue();
+
+			if (!virtualFile.isValid()) {
+				continue;
+			}
+
+			PsiFile psiFile = psiManager.findFile(virtualFile);
+
+			PropertiesFile propertiesFile = PropertiesImplUtil.getPropertiesFile(psiFile);
+
+			if (propertiesFile != null) {
+				propertiesFiles.add(propertiesFile);
+			}
+		}
+
+		return propertiesFiles;
+	}
+
+	public static boolean isLanguageFile(String fileName) {
+		if ((fileName != null) && fileName.startsWith(_LANGUAGE_FILE_PREFIX) &&
+			fileName.endsWith(_PROPERTIES_FILE_EXTENSION)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, String, FileContent> getIndexer() {
+		return fileContent -> indexLanguageKeys(fileContent.getFileName(), fileContent.getContentAsText());
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(PropertiesFileType.INSTANCE) {
+
+			@Override
+			public boolean acceptInput(@NotNull VirtualFile virtualFile) {
+				return isLanguageFile(virtualFile.getName());
+			}
+
+		};
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public ID<String, String> getName() {
+		return NAME;
+	}
+
+	@NotNull
+	@Override
+	public DataExternalizer<String> getValueExternalizer() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+	/**
+	 * @return the locale of a language file, e.g. "pt_BR" for
+	 *         Language_pt_BR.properties and "" for Language.properties
+	 */
+	protected static String getLocale(String fileName) {
+		int index = fileName.indexOf('_');
+
+		if (index == -1) {
+			return "";
+		}
+
+		return fileName.substring(index + 1, fileName.length() - _PROPERTIES_FILE_EXTENSION.length());
+	}
+
+	protected static Map<String, String> indexLanguageKeys(String fileName, CharSequence text) {
+		Properties properties = new Properties();
+
+		try {
+			properties.load(new StringReader(text.toString()));
+		}
+		catch (IllegalArgumentException | IOException e) {
+		}
+
+		String locale = getLocale(fileName);
+
+		Map<String, String> languageKeys = new HashMap<>();
+
+		for (String key : properties.stringPropertyNames()) {
+			languageKeys.put(key, locale);
+		}
+
+		languageKeys.put(_LANGUAGE_FILE_KEY, locale);
+
+		return languageKeys;
+	}
+
+	/**
+	 * Every language file is also indexed under the empty key, which is not a
+	 * valid language key, so all language files in a scope can be found
+	 * without reading them.
+	 */
+	private static final String _LANGUAGE_FILE_KEY = "";
+
+	private static final String _LANGUAGE_FILE_PREFIX = "Language";
+
+	private static final String _PROPERTIES_FILE_EXTENSION = ".properties";
+
+}
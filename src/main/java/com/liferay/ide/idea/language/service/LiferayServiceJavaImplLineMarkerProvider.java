@@ -21,18 +21,15 @@ import com.intellij.icons.AllIcons;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiJavaFile;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 
-import java.util.ArrayList;
+import com.liferay.ide.idea.util.LiferayMetrics;
+
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -46,6 +43,16 @@ public class LiferayServiceJavaImplLineMarkerProvider extends RelatedItemLineMar
 		@NotNull List<? extends PsiElement> elements, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
 		boolean forNavigation) {
 
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("serviceXml.lineMarkers.java");
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			_collectNavigationMarkers(elements, result);
+		}
+	}
+
+	private void _collectNavigationMarkers(
+		List<? extends PsiElement> elements, Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+
 		elements.stream(
 		).forEach(
 			psiElement -> {
@@ -62,48 +69,16 @@ public class LiferayServiceJavaImplLineMarkerProvider extends RelatedItemLineMar
 							String targetName = name.substring(0, name.length() - 4);
 							String targetPackage = packageName.substring(0, packageName.length() - 11);
 
-							Collection<PsiElement> targetPsiElements = new ArrayList<>();
-
 							Project project = psiElement.getProject();
 
-							PsiFile[] psiFiles = FilenameIndex.getFilesByName(
-								project, "service.xml", GlobalSearchScope.allScope(project));
-
-							for (PsiFile psiFile : psiFiles) {
-								if (psiFile instanceof XmlFile) {
-									XmlFile xmlFile = (XmlFile)psiFile;
-
-									if (xmlFile.isValid()) {
-										XmlTag rootXmlTag = xmlFile.getRootTag();
-
-										if (rootXmlTag == null) {
-											continue;
-										}
-
-										if (Objects.equals("service-builder", rootXmlTag.getLocalName())) {
-											String packagePath = rootXmlTag.getAttributeValue("package-path");
-
-											if (targetPackage.equals(packagePath)) {
-												XmlTag[] xmlTags = rootXmlTag.findSubTags("entity");
-
-												for (XmlTag xmlTag : xmlTags) {
-													String entityName = xmlTag.getAttributeValue("name");
-
-													if (targetName.equals(entityName)) {
-														targetPsiElements.add(xmlTag);
-													}
-												}
-											}
-										}
-									}
-								}
-							}
+							List<XmlTag> targetXmlTags = LiferayServiceXMLEntityIndex.getEntityXmlTags(
+								project, targetPackage, targetName, GlobalSearchScope.allScope(project));
 
-							if (!targetPsiElements.isEmpty()) {
+							if (!targetXmlTags.isEmpty()) {
 								NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder.create(
 									AllIcons.Gutter.ImplementingMethod);
 
-								builder.setTargets(targetPsiElements);
+								builder.setTargets(targetXmlTags);
 								builder.setTooltipText("Navigate to Declaration");
 
 								result.add(builder.createLineMarkerInfo(psiElement));
@@ -0,0 +1,405 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.service;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps the entities declared in service.xml files, keyed by package path and
+ * entity name, e.g. "com.liferay.blogs.BlogsEntry", to the offset of their
+ * entity tag. Entities can be found without building the PSI of every
+ * service.xml in the project.
+ *
+ * @author agent
+ */
+public class LiferayServiceXMLEntityIndex extends FileBasedIndexExtension<String, Integer> {
+
+	public static final ID<String, Integer> NAME = ID.create(
+		"com.liferay.ide.idea.language.service.LiferayServiceXMLEntityIndex");
+
+	public static String getEntityKey(String packagePath, String entityName) {
+		return packagePath + "." + entityName;
+	}
+
+	/**
+	 * @return the entity tags of the service.xml files in the scope that
+	 *         declare the entity
+	 */
+	public static List<XmlTag> getEntityXmlTags(
+		Project project, String packagePath, String entityName, GlobalSearchScope globalSearchScope) {
+
+		List<XmlTag> xmlTags = new ArrayList<>();
+
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		PsiManager psiManager = PsiManager.getInstance(project);
+
+		fileBasedIndex.processValues(
+			NAME, getEntityKey(packagePath, entityName), null,
+			(virtualFile, offset) -> {
+				XmlTag xmlTag = _getEntityXmlTag(psiManager, virtualFile, offset);
+
+				if ((xmlTag != null) && Objects.equals(entityName, xmlTag.getAttributeValue("name"))) {
+					xmlTags.add(xmlTag);
+				}
+
+				return true;
+			},
+			globalSearchScope);
+
+		return xmlTags;
+	}
+
+	/**
+	 * @return the entity keys of a service.xml file, keyed by the offset of
+	 *         their entity tag
+	 */
+	public static Map<Integer, String> getEntityKeys(Project project, VirtualFile virtualFile) {
+		if (!_SERVICE_XML_FILE_NAME.equals(virtualFile.getName())) {
+			return Collections.emptyMap();
+		}
+
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		Map<String, Integer> entityOffsets = fileBasedIndex.getFileData(NAME, virtualFile, project);
+
+		Map<Integer, String> entityKeys = new HashMap<>();
+
+		for (Map.Entry<String, Integer> entry : entityOffsets.entrySet()) {
+			entityKeys.put(entry.getValue(), entry.getKey());
+		}
+
+		return entityKeys;
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, Integer, FileContent> getIndexer() {
+		return fileContent -> indexEntities(fileContent.getContentAsText());
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+
+			@Override
+			public boolean acceptInput(@NotNull VirtualFile virtualFile) {
+				return _SERVICE_XML_FILE_NAME.equals(virtualFile.getName());
+			}
+
+		};
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public ID<String, Integer> getName() {
+		return NAME;
+	}
+
+	@NotNull
+	@Override
+	public DataExternalizer<Integer> getValueExternalizer() {
+		return EnumeratorIntegerDescriptor.INSTANCE;
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+	/**
+	 * Scans the markup of a service.xml for the package path of the
+	 * service-builder root tag and its entity child tags. Comments, CDATA
+	 * sections, processing instructions and the DOCTYPE are skipped, so no
+	 * PSI has to be built while indexing.
+	 */
+	protected static Map<String, Integer> indexEntities(CharSequence text) {
+		Map<String, Integer> entities = new HashMap<>();
+
+		String packagePath = null;
+
+		int depth = 0;
+		int length = text.length();
+
+		int i = _indexOf(text, "<", 0);
+
+		while (i != -1) {
+			if (_startsWith(text, i, "<!--")) {
+				i = _indexOfEnd(text, "-->", i + 4);
+			}
+			else if (_startsWith(text, i, "<![CDATA[")) {
+				i = _indexOfEnd(text, "]]>", i + 9);
+			}
+			else if (_startsWith(text, i, "<?")) {
+				i = _indexOfEnd(text, "?>", i + 2);
+			}
+			else if (_startsWith(text, i, "<!")) {
+				i = _indexOfDeclarationEnd(text, i + 2);
+			}
+			else if (_startsWith(text, i, "</")) {
+				depth--;
+
+				i = _indexOfEnd(text, ">", i + 2);
+			}
+			else {
+				int start = i;
+
+				i++;
+
+				while ((i < length) && _isNameChar(text.charAt(i))) {
+					i++;
+				}
+
+				String tagName = String.valueOf(text.subSequence(start + 1, i));
+
+				Map<String, String> attributes = new HashMap<>();
+
+				i = _readAttributes(text, i, attributes);
+
+				if (i == -1) {
+					break;
+				}
+
+				if (depth == 0) {
+					if (!Objects.equals("service-builder", tagName)) {
+						break;
+					}
+
+					packagePath = attributes.get("package-path");
+				}
+				else if ((depth == 1) && (packagePath != null) && Objects.equals("entity", tagName)) {
+					String entityName = attributes.get("name");
+
+					if (entityName != null) {
+						entities.putIfAbsent(getEntityKey(packagePath, entityName), start);
+					}
+				}
+
+				if (text.charAt(i - 2) != '/') {
+					depth++;
+				}
+			}
+
+			if (i == -1) {
+				break;
+			}
+
+			i = _indexOf(text, "<", i);
+		}
+
+		return entities;
+	}
+
+	private static XmlTag _getEntityXmlTag(PsiManager psiManager, VirtualFile virtualFile, int offset) {
+		if (!virtualFile.isValid()) {
+			return null;
+		}
+
+		PsiFile psiFile = psiManager.findFile(virtualFile);
+
+		if (psiFile == null) {
+			return null;
+		}
+
+		PsiElement psiElement = psiFile.findElementAt(offset);
+
+		XmlTag xmlTag = PsiTreeUtil.getParentOfType(psiElement, XmlTag.class, false);
+
+		if ((xmlTag == null) || !Objects.equals("entity", xmlTag.getLocalName())) {
+			return null;
+		}
+
+		return xmlTag;
+	}
+
+	private static int _indexOf(CharSequence text, String s, int fromIndex) {
+		int max = text.length() - s.length();
+
+		for (int i = fromIndex; i <= max; i++) {
+			if (_startsWith(text, i, s)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int _indexOfDeclarationEnd(CharSequence text, int fromIndex) {
+		int length = text.length();
+
+		boolean internalSubset = false;
+
+		for (int i = fromIndex; i < length; i++) {
+			char c = text.charAt(i);
+
+			if ((c == '"') || (c == '\'')) {
+				i = _indexOfEnd(text, String.valueOf(c), i + 1);
+
+				if (i == -1) {
+					return -1;
+				}
+
+				i--;
+			}
+			else if (c == '[') {
+				internalSubset = true;
+			}
+			else if (c == ']') {
+				internalSubset = false;
+			}
+			else if ((c == '>') && !internalSubset) {
+				return i + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int _indexOfEnd(CharSequence text, String s, int fromIndex) {
+		int index = _indexOf(text, s, fromIndex);
+
+		if (index == -1) {
+			return -1;
+		}
+
+		return index + s.length();
+	}
+
+	private static boolean _isNameChar(char c) {
+		if (Character.isLetterOrDigit(c) || (c == '-') || (c == '.') || (c == ':') || (c == '_')) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the offset after the end of the tag, or -1 if the tag is not
+	 *         closed
+	 */
+	private static int _readAttributes(CharSequence text, int fromIndex, Map<String, String> attributes) {
+		int length = text.length();
+
+		int i = fromIndex;
+
+		while (i < length) {
+			char c = text.charAt(i);
+
+			if (c == '>') {
+				return i + 1;
+			}
+
+			if (!_isNameChar(c)) {
+				i++;
+
+				continue;
+			}
+
+			int nameStart = i;
+
+			while ((i < length) && _isNameChar(text.charAt(i))) {
+				i++;
+			}
+
+			String name = String.valueOf(text.subSequence(nameStart, i));
+
+			while ((i < length) && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+
+			if ((i == length) || (text.charAt(i) != '=')) {
+				continue;
+			}
+
+			i++;
+
+			while ((i < length) && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+
+			if ((i == length) || ((text.charAt(i) != '"') && (text.charAt(i) != '\''))) {
+				continue;
+			}
+
+			int valueEnd = _indexOf(text, String.valueOf(text.charAt(i)), i + 1);
+
+			if (valueEnd == -1) {
+				return -1;
+			}
+
+			attributes.put(name, String.valueOf(text.subSequence(i + 1, valueEnd)));
+
+			i = valueEnd + 1;
+		}
+
+		return -1;
+	}
+
+	private static boolean _startsWith(CharSequence text, int offset, String s) {
+		if ((offset + s.length()) > text.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < s.length(); i++) {
+			if (text.charAt(offset + i) != s.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static final String _SERVICE_XML_FILE_NAME = "service.xml";
+
+}
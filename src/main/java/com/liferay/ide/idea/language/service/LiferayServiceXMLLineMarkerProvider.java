@@ -19,9 +19,12 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttribute;
@@ -29,9 +32,12 @@ import com.intellij.psi.xml.XmlTag;
 import com.intellij.psi.xml.XmlToken;
 import com.intellij.psi.xml.XmlTokenType;
 
+import com.liferay.ide.idea.util.LiferayMetrics;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -47,65 +53,90 @@ public class LiferayServiceXMLLineMarkerProvider extends RelatedItemLineMarkerPr
 		@NotNull List<? extends PsiElement> elements, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
 		boolean forNavigation) {
 
-		elements.stream(
-		).forEach(
-			element -> {
-				Project project = element.getProject();
-
-				Optional<XmlAttribute> nameXmlAttribute = Optional.of(
-					element
-				).filter(
-					XmlToken.class::isInstance
-				).map(
-					XmlToken.class::cast
-				).filter(
-					xmlToken -> XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN.equals(xmlToken.getTokenType())
-				).map(
-					xmlToken -> PsiTreeUtil.getParentOfType(xmlToken, XmlAttribute.class)
-				).filter(
-					xmlAttribute -> Objects.equals("name", xmlAttribute.getLocalName())
-				);
-
-				nameXmlAttribute.map(
-					xmlAttribute -> PsiTreeUtil.getParentOfType(xmlAttribute, XmlTag.class)
-				).map(
-					PsiElement::getParent
-				).filter(
-					XmlTag.class::isInstance
-				).map(
-					XmlTag.class::cast
-				).filter(
-					parentXmlTag -> Objects.equals("service-builder", parentXmlTag.getLocalName())
-				).ifPresent(
-					serviceBuilderXmlTag -> {
-						XmlAttribute xmlAttribute = nameXmlAttribute.get();
-
-						String entityName = xmlAttribute.getValue();
-
-						String packagePath = serviceBuilderXmlTag.getAttributeValue("package-path");
-
-						if ((entityName != null) && (packagePath != null)) {
-							String targetClassName = packagePath + ".model.impl." + entityName + "Impl";
-
-							JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
-
-							PsiClass psiClass = javaPsiFacade.findClass(
-								targetClassName, GlobalSearchScope.allScope(project));
-
-							if (psiClass != null) {
-								NavigationGutterIconBuilder<PsiElement> navigationGutterIconBuilder =
-									NavigationGutterIconBuilder.create(AllIcons.Gutter.ImplementedMethod);
-
-								navigationGutterIconBuilder.setTargets(Collections.singletonList(psiClass));
-								navigationGutterIconBuilder.setTooltipText("Navigate to Implementation");
-
-								result.add(navigationGutterIconBuilder.createLineMarkerInfo(element));
-							}
-						}
-					}
-				);
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("serviceXml.lineMarkers.xml");
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			_collectNavigationMarkers(elements, result);
+		}
+	}
+
+	private void _collectNavigationMarkers(
+		List<? extends PsiElement> elements, Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+
+		Map<Integer, String> entityKeys = null;
+
+		for (PsiElement element : elements) {
+			Optional<XmlTag> entityXmlTag = Optional.of(
+				element
+			).filter(
+				XmlToken.class::isInstance
+			).map(
+				XmlToken.class::cast
+			).filter(
+				xmlToken -> XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN.equals(xmlToken.getTokenType())
+			).map(
+				xmlToken -> PsiTreeUtil.getParentOfType(xmlToken, XmlAttribute.class)
+			).filter(
+				xmlAttribute -> Objects.equals("name", xmlAttribute.getLocalName())
+			).map(
+				XmlAttribute::getParent
+			).filter(
+				xmlTag -> Objects.equals("entity", xmlTag.getLocalName())
+			);
+
+			if (!entityXmlTag.isPresent()) {
+				continue;
+			}
+
+			Project project = element.getProject();
+
+			if (entityKeys == null) {
+				entityKeys = _getEntityKeys(project, element.getContainingFile());
 			}
-		);
+
+			XmlTag xmlTag = entityXmlTag.get();
+
+			TextRange textRange = xmlTag.getTextRange();
+
+			String entityKey = entityKeys.get(textRange.getStartOffset());
+
+			if (entityKey == null) {
+				continue;
+			}
+
+			int index = entityKey.lastIndexOf('.');
+
+			String targetClassName =
+				entityKey.substring(0, index) + ".model.impl." + entityKey.substring(index + 1) + "Impl";
+
+			JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
+
+			PsiClass psiClass = javaPsiFacade.findClass(targetClassName, GlobalSearchScope.allScope(project));
+
+			if (psiClass != null) {
+				NavigationGutterIconBuilder<PsiElement> navigationGutterIconBuilder =
+					NavigationGutterIconBuilder.create(AllIcons.Gutter.ImplementedMethod);
+
+				navigationGutterIconBuilder.setTargets(Collections.singletonList(psiClass));
+				navigationGutterIconBuilder.setTooltipText("Navigate to Implementation");
+
+				result.add(navigationGutterIconBuilder.createLineMarkerInfo(element));
+			}
+		}
+	}
+
+	private Map<Integer, String> _getEntityKeys(Project project, PsiFile psiFile) {
+		if (psiFile == null) {
+			return Collections.emptyMap();
+		}
+
+		VirtualFile virtualFile = psiFile.getVirtualFile();
+
+		if (virtualFile == null) {
+			return Collections.emptyMap();
+		}
+
+		return LiferayServiceXMLEntityIndex.getEntityKeys(project, virtualFile);
 	}
 
 }
\ No newline at end of file
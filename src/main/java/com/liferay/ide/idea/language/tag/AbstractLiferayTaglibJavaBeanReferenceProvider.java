@@ -14,23 +14,37 @@
 
 package com.liferay.ide.idea.language.tag;
 
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.ElementManipulators;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceProvider;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.ProcessingContext;
+import com.intellij.util.containers.ConcurrentFactoryMap;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
+ * Resolves the bean class of Liferay taglib attributes. The class name of a
+ * tag is computed once for all of its attributes, and the class of each name
+ * is looked up once per file, both until the next PSI change.
+ *
  * @author Dominik Marks
  */
 public abstract class AbstractLiferayTaglibJavaBeanReferenceProvider extends PsiReferenceProvider {
@@ -38,26 +52,63 @@ public abstract class AbstractLiferayTaglibJavaBeanReferenceProvider extends Psi
 	@NotNull
 	@Override
 	public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
-		List<PsiReference> psiReferences = new ArrayList<>();
+		XmlTag xmlTag = PsiTreeUtil.getParentOfType(element, XmlTag.class);
+
+		if (xmlTag == null) {
+			return PsiReference.EMPTY_ARRAY;
+		}
 
-		String className = getClassName(element);
+		Map<Class<?>, Optional<String>> classNames = CachedValuesManager.getCachedValue(
+			xmlTag, _CLASS_NAMES_KEY,
+			() -> CachedValueProvider.Result.create(
+				new ConcurrentHashMap<>(), PsiModificationTracker.MODIFICATION_COUNT));
 
-		if (className != null) {
-			PsiManager psiManager = PsiManager.getInstance(element.getProject());
+		Optional<String> className = classNames.computeIfAbsent(
+			getClass(), providerClass -> Optional.ofNullable(getClassName(xmlTag)));
 
-			PsiClass psiClass = ClassUtil.findPsiClass(psiManager, className);
+		if (!className.isPresent()) {
+			return PsiReference.EMPTY_ARRAY;
+		}
+
+		PsiClass psiClass = _findPsiClass(element.getContainingFile(), className.get());
 
-			if (psiClass != null) {
-				psiReferences.add(
-					new LiferayTaglibJavaBeanReference(
-						(XmlAttributeValue)element, ElementManipulators.getValueTextRange(element), psiClass));
-			}
+		if (psiClass == null) {
+			return PsiReference.EMPTY_ARRAY;
 		}
 
-		return psiReferences.toArray(new PsiReference[0]);
+		return new PsiReference[] {
+			new LiferayTaglibJavaBeanReference(
+				(XmlAttributeValue)element, ElementManipulators.getValueTextRange(element), psiClass)
+		};
 	}
 
+	/**
+	 * @param  xmlTag the tag that holds the attribute
+	 * @return the name of the bean class of the attributes of the tag
+	 */
 	@Nullable
-	protected abstract String getClassName(PsiElement psiElement);
+	protected abstract String getClassName(XmlTag xmlTag);
+
+	private static PsiClass _findPsiClass(PsiFile psiFile, String className) {
+		PsiManager psiManager = psiFile.getManager();
+
+		Map<String, PsiClass> psiClasses = CachedValuesManager.getCachedValue(
+			psiFile, _PSI_CLASSES_KEY,
+			() -> CachedValueProvider.Result.create(
+				ConcurrentFactoryMap.createMap(name -> ClassUtil.findPsiClass(psiManager, name)),
+				PsiModificationTracker.MODIFICATION_COUNT));
+
+		return psiClasses.get(className);
+	}
+
+	/**
+	 * The class names of a tag are kept per provider class, so all providers
+	 * share one key.
+	 */
+	private static final Key<CachedValue<Map<Class<?>, Optional<String>>>> _CLASS_NAMES_KEY = Key.create(
+		"LIFERAY_TAGLIB_JAVA_BEAN_CLASS_NAMES");
+
+	private static final Key<CachedValue<Map<String, PsiClass>>> _PSI_CLASSES_KEY = Key.create(
+		"LIFERAY_TAGLIB_JAVA_BEAN_PSI_CLASSES");
 
-}
\ No newline at end of file
+}
@@ -23,10 +23,7 @@ import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.xml.util.XmlUtil;
 
-import java.util.AbstractMap;
-import java.util.Collection;
-import java.util.Map;
-import java.util.stream.Stream;
+import com.liferay.ide.idea.util.LiferayMetrics;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -45,36 +42,14 @@ public abstract class AbstractLiferayTaglibReferenceContributor extends PsiRefer
 
 	protected abstract PsiReferenceProvider getPsiReferenceProvider();
 
-	protected abstract Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>
-		getTaglibAttributesMap();
+	protected abstract int getTaglibAttributeKind();
 
 	protected boolean isSuitableXmlAttribute(XmlAttribute xmlAttribute) {
 		XmlTag xmlTag = xmlAttribute.getParent();
 
 		if (xmlTag != null) {
-			String namespace = xmlTag.getNamespace();
-
-			Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> taglibAttributesMap =
-				getTaglibAttributesMap();
-
-			if (taglibAttributesMap.containsKey(namespace)) {
-				Collection<AbstractMap.SimpleImmutableEntry<String, String>> entries = taglibAttributesMap.get(
-					namespace);
-
-				Stream<AbstractMap.SimpleImmutableEntry<String, String>> entriesStream = entries.stream();
-
-				return entriesStream.anyMatch(
-					entry -> {
-						String key = entry.getKey();
-						String value = entry.getValue();
-
-						if (key.equals(xmlTag.getLocalName()) && value.equals(xmlAttribute.getLocalName())) {
-							return true;
-						}
-
-						return false;
-					});
-			}
+			return LiferayTaglibAttributeIndex.contains(
+				getTaglibAttributeKind(), xmlTag.getNamespace(), xmlTag.getLocalName(), xmlAttribute.getLocalName());
 		}
 
 		return false;
@@ -90,7 +65,9 @@ public abstract class AbstractLiferayTaglibReferenceContributor extends PsiRefer
 			if (psiElementParent instanceof XmlAttribute) {
 				XmlAttribute xmlAttribute = (XmlAttribute)psiElementParent;
 
-				return AbstractLiferayTaglibReferenceContributor.this.isSuitableXmlAttribute(xmlAttribute);
+				try (LiferayMetrics.Timer.Sample sample = _timer.start()) {
+					return AbstractLiferayTaglibReferenceContributor.this.isSuitableXmlAttribute(xmlAttribute);
+				}
 			}
 
 			return false;
@@ -101,6 +78,14 @@ public abstract class AbstractLiferayTaglibReferenceContributor extends PsiRefer
 			return true;
 		}
 
+		private LiferayTaglibFilter() {
+			Class<?> clazz = AbstractLiferayTaglibReferenceContributor.this.getClass();
+
+			_timer = LiferayMetrics.timer("taglib.isSuitableXmlAttribute." + clazz.getSimpleName());
+		}
+
+		private final LiferayMetrics.Timer _timer;
+
 	}
 
 }
\ No newline at end of file
@@ -15,171 +15,166 @@
 package com.liferay.ide.idea.language.tag;
 
 import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
-
-import java.net.URL;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.ProcessingContext;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.Node;
-import org.dom4j.io.SAXReader;
+import org.jetbrains.annotations.NotNull;
 
 /**
+ * Completes the values of enumerated and boolean attributes of the Liferay
+ * taglibs. A single provider resolves the enclosing tag and attribute once
+ * and looks the values up by namespace, tag and attribute name, instead of
+ * matching one pattern per attribute.
+ *
  * @author Terry Jia
  */
 public class AuiTagAttributeValueCompletionContributor extends CompletionContributor {
 
 	public AuiTagAttributeValueCompletionContributor() {
-		for (String[] attribute : _parseBooleanAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new BooleanCompletionProvider());
-		}
+		extend(CompletionType.BASIC, capture.inside(XmlAttributeValue.class), new AttributeValueCompletionProvider());
+	}
 
-		for (String[] attribute : _getLexiconAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+	private static List<LookupElement> _getLookupElements(String namespace, String tagName, String attributeName) {
+		Map<String, Map<String, List<LookupElement>>> tags = LookupElementsHolder._lookupElements.get(namespace);
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"lexicon"}));
+		if (tags == null) {
+			return null;
 		}
 
-		for (String[] attribute : _getLeftRightAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		Map<String, List<LookupElement>> attributes = tags.get(tagName);
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"left", "right"}));
+		if (attributes == null) {
+			return null;
 		}
 
-		for (String[] attribute : _getTargetAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		return attributes.get(attributeName);
+	}
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"blank", "self", "parent", "top", "_blank", "_new"}));
-		}
+	private static class AttributeValueCompletionProvider extends CompletionProvider<CompletionParameters> {
 
-		PsiElementPattern.Capture<PsiElement> buttonCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			buttonCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "type")),
-			new StringCompletionProvider(new String[] {"button", "submit", "cancel", "reset"}));
-
-		PsiElementPattern.Capture<PsiElement> formCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			formCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "form", "method")),
-			new StringCompletionProvider(new String[] {"get", "post"}));
-
-		PsiElementPattern.Capture<PsiElement> inputCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			inputCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "type")),
-			new StringCompletionProvider(
-				new String[] {
-					"text", "hidden", "assetCategories", "assetTags", "textarea", "timeZone", "password", "checkbox",
-					"radio", "submit", "button", "color", "email", "number", "range", "resource", "url", "editor",
-					"toggle-card", "toggle-switch", "image"
-				}));
-
-		PsiElementPattern.Capture<PsiElement> validatorCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			validatorCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "validator", "name")),
-			new StringCompletionProvider(
-				new String[] {
-					"acceptFiles", "alpha", "alphanum", "custom", "date", "digits", "email", "equalTo", "iri", "max",
-					"maxLength", "min", "minLength", "number", "range", "rangeLength", "required", "url"
-				}));
-	}
+		@Override
+		protected void addCompletions(
+			@NotNull CompletionParameters parameters, ProcessingContext context, @NotNull CompletionResultSet result) {
 
-	private static List<String[]> _getLeftRightAttributes() {
-		List<String[]> leftRightAttributes = new ArrayList<>();
+			XmlAttribute xmlAttribute = PsiTreeUtil.getParentOfType(parameters.getPosition(), XmlAttribute.class);
 
-		leftRightAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "field-wrapper", "inlineLabel"});
-		leftRightAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "form", "inlineLabel"});
-		leftRightAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "inlineLabel"});
-		leftRightAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "select", "inlineLabel"});
-		leftRightAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "iconAlign"});
+			if (xmlAttribute == null) {
+				return;
+			}
 
-		return leftRightAttributes;
-	}
+			XmlTag xmlTag = xmlAttribute.getParent();
 
-	private static List<String[]> _getLexiconAttributes() {
-		List<String[]> lexiconAttributes = new ArrayList<>();
+			if (xmlTag == null) {
+				return;
+			}
 
-		lexiconAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "fieldset", "markupView"});
-		lexiconAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "fieldset-group", "markupView"});
-		lexiconAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "icon", "markupView"});
-		lexiconAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "nav-bar", "markupView"});
-		lexiconAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "workflow-status", "markupView"});
+			List<LookupElement> lookupElements = _getLookupElements(
+				xmlTag.getNamespace(), xmlTag.getLocalName(), xmlAttribute.getName());
 
-		return lexiconAttributes;
-	}
+			if (lookupElements == null) {
+				return;
+			}
 
-	private static List<String[]> _getTargetAttributes() {
-		List<String[]> targetAttributes = new ArrayList<>();
+			result.addAllElements(lookupElements);
 
-		targetAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "a", "target"});
-		targetAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "icon", "target"});
-		targetAttributes.add(new String[] {LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "nav-item", "target"});
+			result.stopHere();
+		}
 
-		return targetAttributes;
 	}
 
-	private static List<String[]> _parseBooleanAttributes() {
-		List<String[]> booleanAttributes = new ArrayList<>();
+	private static class LookupElementsHolder {
 
-		SAXReader saxReader = new SAXReader();
+		private static void _add(
+			Map<String, Map<String, Map<String, List<LookupElement>>>> lookupElements, String tagName,
+			String attributeName, String... values) {
 
-		ClassLoader classLoader = AuiTagAttributeValueCompletionContributor.class.getClassLoader();
+			_put(
+				lookupElements, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, tagName, attributeName,
+				_createLookupElements("String", values));
+		}
 
-		URL[] urls = {
-			classLoader.getResource("definitions/tld/liferay-aui.tld"),
-			classLoader.getResource("definitions/tld/liferay-ui.tld")
-		};
+		private static Map<String, Map<String, Map<String, List<LookupElement>>>> _createLookupElements() {
+			Map<String, Map<String, Map<String, List<LookupElement>>>> lookupElements = new HashMap<>();
 
-		for (URL url : urls) {
-			try {
-				Document document = saxReader.read(url);
+			List<LookupElement> booleanLookupElements = _createLookupElements("boolean", "true", "false");
 
-				Node uriNode = document.selectSingleNode("/*[name()='taglib']/*[name()='uri']");
+			for (LiferayTaglibMetadata.Attribute attribute : LiferayTaglibMetadata.getAttributes("boolean")) {
+				_put(
+					lookupElements, attribute.getUri(), attribute.getTagName(), attribute.getName(),
+					booleanLookupElements);
+			}
 
-				String uri = uriNode.getText();
+			_add(lookupElements, "a", "target", "blank", "self", "parent", "top", "_blank", "_new");
+			_add(lookupElements, "button", "iconAlign", "left", "right");
+			_add(lookupElements, "button", "type", "button", "submit", "cancel", "reset");
+			_add(lookupElements, "field-wrapper", "inlineLabel", "left", "right");
+			_add(lookupElements, "fieldset", "markupView", "lexicon");
+			_add(lookupElements, "fieldset-group", "markupView", "lexicon");
+			_add(lookupElements, "form", "inlineLabel", "left", "right");
+			_add(lookupElements, "form", "method", "get", "post");
+			_add(lookupElements, "icon", "markupView", "lexicon");
+			_add(lookupElements, "icon", "target", "blank", "self", "parent", "top", "_blank", "_new");
+			_add(lookupElements, "input", "inlineLabel", "left", "right");
+			_add(
+				lookupElements, "input", "type", "text", "hidden", "assetCategories", "assetTags", "textarea",
+				"timeZone", "password", "checkbox", "radio", "submit", "button", "color", "email", "number", "range",
+				"resource", "url", "editor", "toggle-card", "toggle-switch", "image");
+			_add(lookupElements, "nav-bar", "markupView", "lexicon");
+			_add(lookupElements, "nav-item", "target", "blank", "self", "parent", "top", "_blank", "_new");
+			_add(lookupElements, "select", "inlineLabel", "left", "right");
+			_add(
+				lookupElements, "validator", "name", "acceptFiles", "alpha", "alphanum", "custom", "date", "digits",
+				"email", "equalTo", "iri", "max", "maxLength", "min", "minLength", "number", "range", "rangeLength",
+				"required", "url");
+			_add(lookupElements, "workflow-status", "markupView", "lexicon");
+
+			return Collections.unmodifiableMap(lookupElements);
+		}
 
-				List<Node> typeNodes = document.selectNodes(
-					"/*[name()='taglib']/*[name()='tag']/*[name()='attribute']/*[name()='type']");
+		private static List<LookupElement> _createLookupElements(String type, String... values) {
+			List<LookupElement> lookupElements = new ArrayList<>(values.length);
 
-				for (Node typeNode : typeNodes) {
-					String type = typeNode.getText();
+			for (String value : values) {
+				lookupElements.add(LiferayLookupElementBuilderFactory.create(value, type));
+			}
 
-					if (type.equals("boolean")) {
-						Node attributeName = typeNode.selectSingleNode("../*[name()='name']");
+			return Collections.unmodifiableList(lookupElements);
+		}
 
-						Node tagName = attributeName.selectSingleNode("../../*[name()='name']");
+		private static void _put(
+			Map<String, Map<String, Map<String, List<LookupElement>>>> lookupElements, String namespace, String tagName,
+			String attributeName, List<LookupElement> values) {
 
-						booleanAttributes.add(new String[] {uri, tagName.getText(), attributeName.getText()});
-					}
-				}
-			}
-			catch (DocumentException de) {
-			}
+			Map<String, Map<String, List<LookupElement>>> tags = lookupElements.computeIfAbsent(
+				namespace, key -> new HashMap<>());
+
+			Map<String, List<LookupElement>> attributes = tags.computeIfAbsent(tagName, key -> new HashMap<>());
+
+			attributes.put(attributeName, values);
 		}
 
-		return booleanAttributes;
+		private static final Map<String, Map<String, Map<String, List<LookupElement>>>> _lookupElements =
+			_createLookupElements();
+
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,514 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable index of the Liferay taglib attributes the taglib contributors
+ * care about, keyed by namespace, tag and attribute. Each attribute holds a
+ * bit set of the kinds of support it gets, so a lookup is three hash lookups
+ * and does not allocate.
+ *
+ * @author agent
+ */
+public class LiferayTaglibAttributeIndex {
+
+	public static final int CLASS_NAME = 1;
+
+	public static final int CSS_CLASS = 1 << 1;
+
+	/**
+	 * An empty attribute name marks a tag whose body is JavaScript.
+	 */
+	public static final int JAVASCRIPT = 1 << 2;
+
+	public static final int MODEL_CONTEXT = 1 << 3;
+
+	public static final int RESOURCE_BUNDLE = 1 << 4;
+
+	public static final int SEARCH_CONTAINER = 1 << 5;
+
+	public static boolean contains(int kind, String namespace, String tagName, String attributeName) {
+		if ((namespace == null) || (tagName == null) || (attributeName == null)) {
+			return false;
+		}
+
+		Map<String, Map<String, Integer>> tags = _namespaces.get(namespace);
+
+		if (tags == null) {
+			return false;
+		}
+
+		Map<String, Integer> attributes = tags.get(tagName);
+
+		if (attributes == null) {
+			return false;
+		}
+
+		Integer kinds = attributes.get(attributeName);
+
+		if ((kinds != null) && ((kinds & kind) != 0)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return <code>true</code> if any attribute of the namespace is of the
+	 *         given kind
+	 */
+	public static boolean containsNamespace(int kind, String namespace) {
+		if (namespace == null) {
+			return false;
+		}
+
+		Integer kinds = _namespaceKinds.get(namespace);
+
+		if ((kinds != null) && ((kinds & kind) != 0)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the sorted names of all attributes of the given kind, for
+	 *         registering reference providers
+	 */
+	public static String[] getAttributeNames(int kind) {
+		Set<String> attributeNames = new TreeSet<>();
+
+		for (Map<String, Map<String, Integer>> tags : _namespaces.values()) {
+			for (Map<String, Integer> attributes : tags.values()) {
+				for (Map.Entry<String, Integer> entry : attributes.entrySet()) {
+					String attributeName = entry.getKey();
+
+					if (!attributeName.isEmpty() && ((entry.getValue() & kind) != 0)) {
+						attributeNames.add(attributeName);
+					}
+				}
+			}
+		}
+
+		return attributeNames.toArray(new String[0]);
+	}
+
+	private static void _addClassNameAttributes(Builder builder) {
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-categories-available", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-categories-selector", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-categories-summary", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-display", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-entry-usages", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-links", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-metadata", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-tags-available", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-tags-selector", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-tags-summary", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-view-usages", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "input-asset-links", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "model");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "model-context", "model");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "select", "model");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "workflow-status", "model");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_COMMENT, "discussion", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPANDO, "custom-attribute", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPANDO, "custom-attribute-list", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPANDO, "custom-attributes-available", "className");
+		builder.add(
+			CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPORT_IMPORT_CHANGESET, "export-entity", "className");
+		builder.add(
+			CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPORT_IMPORT_CHANGESET, "publish-entity-menu-item",
+			"className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_FLAGS, "flags", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_PORTLET, "runtime", "portletProviderClassName");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_SECURITY, "permissionsURL", "modelResource");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_SHARING, "button", "className");
+		builder.add(
+			CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "app-view-entry", "assetCategoryClassName",
+			"assetTagClassName");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-categories-available", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-categories-selector", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-categories-summary", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-display", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-links", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-metadata", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-tags-available", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-tags-selector", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-tags-summary", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "discussion", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "error", "exception");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-asset-links", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-field", "model");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-permissions", "modelName");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-permissions-params", "modelName");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "ratings", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-row", "className");
+		builder.add(CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "social-activities", "className");
+	}
+
+	private static void _addCssClassAttributes(Builder builder) {
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_ADAPTIVE_MEDIA_IMAGE, "img", "class");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "a", "cssClass", "iconCssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "alert", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "button", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "button-row", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "col", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "container", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "field-wrapper", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "fieldset", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "form", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "icon", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "input", "cssClass", "helpTextCssClass", "wrapperCssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "nav", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "nav-bar", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "nav-bar-search", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "nav-item", "anchorCssClass", "cssClass", "iconCssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "option", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "row", "cssClass");
+		builder.add(CSS_CLASS, _AUI_NAMESPACES, "select", "cssClass", "wrapperCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "alert", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "badge", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "button", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "checkbox", "elementClasses");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "dropdown-actions", "elementClasses",
+			"triggerCssClasses");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "dropdown-menu", "elementClasses", "icon",
+			"triggerCssClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "file-card", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "horizontal-card", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "icon", "elementClasses", "symbol");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "image-card", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "label", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "link", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "management-toolbar", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "navigation-bar", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "progressbar", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "radio", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "select", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "sticker", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "stripe", "elementClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "user-card", "elementClasses", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_DDM, "template-selector", "icon");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_DOCUMENT_LIBRARY, "mime-type-sticker", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_EDITOR, "editor", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "add-menu-item", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "contextual-sidebar", "bodyClasses",
+			"elementClasses", "headerClasses");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "edit-form", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "fieldset", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "form-navigator", "fieldSetCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "horizontal-card", "cardCssClass",
+			"checkboxCSSClass", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "html-vertical-card", "cardCssClass",
+			"checkboxCSSClass", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "icon-vertical-card", "cardCssClass",
+			"checkboxCSSClass", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "image-card", "cssClass", "imageCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "info-bar-button", "cssClass", "iconCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "info-bar-sidenav-toggler-button", "cssClass",
+			"iconCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "management-bar-button", "cssClass", "iconCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "management-bar-sidenav-toggler-button", "cssClass",
+			"iconCssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "screen-navigation", "containerCssClass",
+			"containerWrapperCssClass", "menubarCssClass", "navCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "translation-manager", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "user-vertical-card", "cardCssClass",
+			"checkboxCSSClass", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "vertical-card", "cardCssClass", "checkboxCSSClass",
+			"cssClass", "imageCSSClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "vertical-card-small-image", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_ITEM_SELECTOR, "image-selector", "draggableImage");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_JOURNAL, "journal-article", "wrapperCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_JOURNAL, "journal-article-display", "wrapperCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "menu", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "permissions", "descriptionCSSClass",
+			"labelCSSClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "process-message-task-details", "linkClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "process-status", "linkClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "status", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "alert", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "app-view-entry", "cssClass", "iconCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "app-view-search-entry", "iconCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "empty-result-message", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "header", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon", "cssClass", "iconCssClass", "linkCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon-delete", "cssClass", "linkCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon-menu", "cssClass", "triggerCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-checkbox", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-date", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-editor", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-field", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-localized", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-move-boxes", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-repeat", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-resource", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-search", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-select", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-textarea", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-time", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-time-zone", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "my-sites", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "panel", "cssClass", "iconCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "panel-container", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container", "cssClass",
+			"emptyResultsMessageCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-button", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-date", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-icon", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-image", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-jsp", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-status", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-text", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-user", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-row", "cssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-iterator", "searchResultCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "tabs", "cssClass");
+		builder.add(
+			CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "user-display", "imageCssClass", "userIconCssClass");
+		builder.add(CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "user-portrait", "cssClass", "imageCssClass");
+	}
+
+	private static void _addJavascriptAttributes(Builder builder) {
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "a", "onClick");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "button", "onClick");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "form", "onSubmit");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "input", "onChange", "onClick");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "script", "");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "select", "onChange", "onClick");
+		builder.add(JAVASCRIPT, _AUI_NAMESPACES, "validator", "");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "edit-form", "onSubmit");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "html-vertical-card", "onClick");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "icon-vertical-card", "onClick");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "vertical-card", "onClick");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon", "onClick");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-checkbox", "onClick");
+		builder.add(
+			JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-move-boxes", "leftOnChange", "rightOnChange");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "page-iterator", "jsCall");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "quick-access-entry", "onClick");
+		builder.add(JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "tabs", "onClick");
+	}
+
+	private static void _addModelContextAttributes(Builder builder) {
+		builder.add(MODEL_CONTEXT, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "field", "name");
+		builder.add(MODEL_CONTEXT, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "select", "field", "name");
+		builder.add(MODEL_CONTEXT, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-field", "field");
+	}
+
+	private static void _addResourceBundleAttributes(Builder builder) {
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-addon-entry-selector", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-metadata", "metadataField");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET, "asset-tags-summary", "message");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "a", "label", "title");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "button", "value");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "field-wrapper", "helpMessage", "label");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "fieldset", "helpMessage", "label");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "icon", "label");
+		builder.add(
+			RESOURCE_BUNDLE, _AUI_NAMESPACES, "input", "helpMessage", "label", "labelOff", "labelOn", "placeholder",
+			"prefix", "suffix", "title");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "nav-bar", "selectedItemName");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "nav-item", "label", "title");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "option", "label");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "panel", "label");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "select", "helpMessage", "label", "prefix", "suffix", "title");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "validator", "errorMessage");
+		builder.add(RESOURCE_BUNDLE, _AUI_NAMESPACES, "workflow-status", "helpMessage", "statusMessage");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_DDM, "template-selector", "label");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_EXPANDO, "custom-attribute", "name");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "add-menu-item", "title");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "email-notification-settings", "bodyLabel",
+			"helpMessage");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "fieldset", "helpMessage", "label");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "management-bar-button", "label");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND, "management-bar-filter", "label");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_ITEM_SELECTOR, "repository-entry-browser",
+			"emptyResultsMessage");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_PRODUCT_NAVIGATION, "personal-menu", "label");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_SITE, "site-browser", "emptyResultsMessage");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "checkbox", "description", "label", "popover",
+			"suggestion", "warning");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "configuration-header", "label");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "popover", "text", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "process-date", "labelKey");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "process-list", "emptyResultsMessage");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_STAGING, "radio", "description", "label", "popover");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_TRASH, "empty", "confirmMessage", "emptyMessage",
+			"infoMessage");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "alert", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "app-view-search-entry", "containerType");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-addon-entry-selector", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-metadata", "metadataField");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "asset-tags-summary", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "custom-attribute", "name");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "diff-html", "infoMessage");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "drop-here-info", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "empty-result-message", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "error", "message");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "form-navigator", "categoryLabels",
+			"categorySectionLabels");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "header", "backLabel", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon-delete", "confirmation", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon-help", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "icon-menu", "message", "triggerLabel");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-date", "dateTogglerCheckboxLabel");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-field", "placeholder");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-localized", "helpMessaage", "placeholder");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-move-boxes", "leftTitle", "rightTitle");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input-resource", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "message", "key");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "panel", "helpMessage", "title");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "progress", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "quick-access-entry", "label");
+		builder.add(
+			RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container", "emptyResultsMessage",
+			"headerNames");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-button", "name");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-date", "name");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-text", "name");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-toggle", "buttonLabel");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "success", "message");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "tabs", "names");
+		builder.add(RESOURCE_BUNDLE, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "upload-progress", "message");
+	}
+
+	private static void _addSearchContainerAttributes(Builder builder) {
+		builder.add(SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-date", "property");
+		builder.add(
+			SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-status", "property");
+		builder.add(
+			SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-text", "name",
+			"orderableProperty", "property");
+		builder.add(SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-column-user", "property");
+		builder.add(
+			SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "search-container-row", "keyProperty",
+			"rowIdProperty");
+	}
+
+	private static final String[] _AUI_NAMESPACES = {
+		LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI_OLD
+	};
+
+	private static final Map<String, Integer> _namespaceKinds;
+	private static final Map<String, Map<String, Map<String, Integer>>> _namespaces;
+
+	static {
+		Builder builder = new Builder();
+
+		_addClassNameAttributes(builder);
+		_addCssClassAttributes(builder);
+		_addJavascriptAttributes(builder);
+		_addModelContextAttributes(builder);
+		_addResourceBundleAttributes(builder);
+		_addSearchContainerAttributes(builder);
+
+		_namespaces = builder.build();
+		_namespaceKinds = builder.buildNamespaceKinds();
+	}
+
+	private static class Builder {
+
+		public void add(int kind, String namespace, String tagName, String... attributeNames) {
+			Map<String, Map<String, Integer>> tags = _namespaces.computeIfAbsent(
+				namespace.intern(), key -> new HashMap<>());
+
+			Map<String, Integer> attributes = tags.computeIfAbsent(tagName.intern(), key -> new HashMap<>());
+
+			for (String attributeName : attributeNames) {
+				attributes.merge(attributeName.intern(), kind, (kinds, newKind) -> kinds | newKind);
+			}
+		}
+
+		public void add(int kind, String[] namespaces, String tagName, String... attributeNames) {
+			for (String namespace : namespaces) {
+				add(kind, namespace, tagName, attributeNames);
+			}
+		}
+
+		public Map<String, Map<String, Map<String, Integer>>> build() {
+			Map<String, Map<String, Map<String, Integer>>> namespaces = new HashMap<>();
+
+			for (Map.Entry<String, Map<String, Map<String, Integer>>> namespaceEntry : _namespaces.entrySet()) {
+				Map<String, Map<String, Integer>> tags = new HashMap<>();
+
+				Map<String, Map<String, Integer>> builderTags = namespaceEntry.getValue();
+
+				for (Map.Entry<String, Map<String, Integer>> tagEntry : builderTags.entrySet()) {
+					tags.put(tagEntry.getKey(), Collections.unmodifiableMap(new HashMap<>(tagEntry.getValue())));
+				}
+
+				namespaces.put(namespaceEntry.getKey(), Collections.unmodifiableMap(tags));
+			}
+
+			return Collections.unmodifiableMap(namespaces);
+		}
+
+		public Map<String, Integer> buildNamespaceKinds() {
+			Map<String, Integer> namespaceKinds = new HashMap<>();
+
+			for (Map.Entry<String, Map<String, Map<String, Integer>>> namespaceEntry : _namespaces.entrySet()) {
+				int kinds = 0;
+
+				Map<String, Map<String, Integer>> tags = namespaceEntry.getValue();
+
+				for (Map<String, Integer> attributes : tags.values()) {
+					for (int attributeKinds : attributes.values()) {
+						kinds |= attributeKinds;
+					}
+				}
+
+				namespaceKinds.put(namespaceEntry.getKey(), kinds);
+			}
+
+			return Collections.unmodifiableMap(namespaceKinds);
+		}
+
+		private final Map<String, Map<String, Map<String, Integer>>> _namespaces = new HashMap<>();
+
+	}
+
+}
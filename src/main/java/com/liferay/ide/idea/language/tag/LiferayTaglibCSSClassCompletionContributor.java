@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.patterns.PlatformPatterns;
+import com.intellij.patterns.PsiElementPattern;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.ProcessingContext;
+
+import com.liferay.ide.idea.language.css.LiferayCssClassIndex;
+
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Completes the CSS classes of the Liferay frontend and theme artifacts, such
+ * as Clay, in the CSS class attributes of Liferay and AlloyUI tags. The
+ * classes are read from the LiferayCssClassIndex, so the stylesheets do not
+ * have to be parsed.
+ *
+ * @author agent
+ */
+public class LiferayTaglibCSSClassCompletionContributor extends CompletionContributor {
+
+	public LiferayTaglibCSSClassCompletionContributor() {
+		PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+
+		extend(CompletionType.BASIC, capture.inside(XmlAttributeValue.class), new CSSClassCompletionProvider());
+	}
+
+	private static class CSSClassCompletionProvider extends CompletionProvider<CompletionParameters> {
+
+		@Override
+		protected void addCompletions(
+			@NotNull CompletionParameters parameters, ProcessingContext context, @NotNull CompletionResultSet result) {
+
+			PsiElement position = parameters.getPosition();
+
+			XmlAttribute xmlAttribute = PsiTreeUtil.getParentOfType(position, XmlAttribute.class);
+
+			if (xmlAttribute == null) {
+				return;
+			}
+
+			XmlTag xmlTag = xmlAttribute.getParent();
+
+			if ((xmlTag == null) ||
+				!LiferayTaglibAttributeIndex.contains(
+					LiferayTaglibAttributeIndex.CSS_CLASS, xmlTag.getNamespace(), xmlTag.getLocalName(),
+					xmlAttribute.getLocalName())) {
+
+				return;
+			}
+
+			Set<String> cssClasses = LiferayCssClassIndex.getCssClasses(position.getProject());
+
+			if (cssClasses.isEmpty()) {
+				return;
+			}
+
+			CompletionResultSet completionResultSet = result.withPrefixMatcher(_getPrefix(parameters));
+
+			for (String cssClass : cssClasses) {
+				completionResultSet.addElement(LiferayLookupElementBuilderFactory.create(cssClass, "CSS class"));
+			}
+		}
+
+		/**
+		 * @return the class name in front of the caret, attribute values may
+		 *         hold several space separated classes
+		 */
+		private static String _getPrefix(CompletionParameters parameters) {
+			PsiElement position = parameters.getPosition();
+
+			TextRange textRange = position.getTextRange();
+
+			String text = position.getText();
+
+			int offset = parameters.getOffset() - textRange.getStartOffset();
+
+			if ((offset < 0) || (offset > text.length())) {
+				return "";
+			}
+
+			int start = offset;
+
+			while ((start > 0) && !Character.isWhitespace(text.charAt(start - 1))) {
+				start--;
+			}
+
+			return text.substring(start, offset);
+		}
+
+	}
+
+}
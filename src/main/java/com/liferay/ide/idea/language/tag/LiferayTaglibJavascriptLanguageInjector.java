@@ -18,9 +18,19 @@ import com.intellij.lang.injection.MultiHostInjector;
 import com.intellij.lang.injection.MultiHostRegistrar;
 import com.intellij.lang.javascript.JSTargetedInjector;
 import com.intellij.lang.javascript.JavascriptLanguage;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.io.FileUtilRt;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JspPsiUtil;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiLanguageInjectionHost;
+import com.intellij.psi.jsp.JspFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlTag;
@@ -28,14 +38,11 @@ import com.intellij.psi.xml.XmlText;
 import com.intellij.psi.xml.XmlToken;
 import com.intellij.psi.xml.XmlTokenType;
 
-import java.util.AbstractMap;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -69,174 +76,190 @@ public class LiferayTaglibJavascriptLanguageInjector implements JSTargetedInject
 			xmlTag = xmlAttribute.getParent();
 		}
 
-		String namespace = xmlTag.getNamespace();
+		if (xmlTag == null) {
+			return;
+		}
 
-		if (_taglibAttributes.containsKey(namespace)) {
-			Collection<AbstractMap.SimpleImmutableEntry<String, String>> attributes = _taglibAttributes.get(namespace);
+		String namespace = _getJavascriptNamespace(xmlTag);
 
-			Stream<AbstractMap.SimpleImmutableEntry<String, String>> stream = attributes.stream();
+		if (namespace == null) {
+			return;
+		}
 
-			String localName = xmlTag.getLocalName();
+		String localName = xmlTag.getLocalName();
 
-			if (psiElement instanceof XmlTag) {
-				stream.filter(
-					attribute -> {
-						String key = attribute.getKey();
+		if (psiElement instanceof XmlTag) {
 
-						return key.equals(localName);
-					}
-				).filter(
-					attribute -> Objects.equals("", attribute.getValue())
-				).forEach(
-					attribute -> _injectIntoBody(multiHostRegistrar, (XmlTag)psiElement)
-				);
+			// an empty attribute name marks a tag with a JavaScript body
+
+			if (LiferayTaglibAttributeIndex.contains(
+					LiferayTaglibAttributeIndex.JAVASCRIPT, namespace, localName, "")) {
+
+				_injectIntoBody(multiHostRegistrar, xmlTag, namespace);
 			}
-			else {
-				XmlAttribute xmlAttribute = (XmlAttribute)psiElement;
+		}
+		else {
+			XmlAttribute xmlAttribute = (XmlAttribute)psiElement;
 
-				String attributeName = xmlAttribute.getLocalName();
+			if (LiferayTaglibAttributeIndex.contains(
+					LiferayTaglibAttributeIndex.JAVASCRIPT, namespace, localName, xmlAttribute.getLocalName())) {
 
-				stream.filter(
-					attribute -> {
-						String key = attribute.getKey();
+				_injectIntoAttribute(multiHostRegistrar, xmlAttribute);
+			}
+		}
+	}
+
+	/**
+	 * Taglib prefixes are bound for the whole page in a JSP, so the namespace
+	 * of each prefix is resolved once per file and modification. Tags of any
+	 * other prefix are then rejected with a single lookup. In JSP documents and
+	 * other XML files a prefix is scoped to the element that declares it, so
+	 * the namespace is resolved per tag, and files that do not mention a
+	 * Liferay taglib at all are skipped.
+	 *
+	 * @return the namespace of the tag if it has JavaScript attributes or
+	 *         bodies, <code>null</code> otherwise
+	 */
+	private static String _getJavascriptNamespace(XmlTag xmlTag) {
+		JspFile jspFile = JspPsiUtil.getJspFile(xmlTag);
+
+		if ((jspFile == null) || _isJspDocument(jspFile)) {
+			PsiFile psiFile = xmlTag.getContainingFile();
+
+			if ((psiFile != null) && !_isLiferayTaglibMentioned(psiFile)) {
+				return null;
+			}
 
-						return key.equals(localName);
-					}
-				).filter(
-					attribute -> {
-						String value = attribute.getValue();
+			String namespace = xmlTag.getNamespace();
 
-						return value.equals(attributeName);
-					}
-				).forEach(
-					attribute -> _injectIntoAttribute(multiHostRegistrar, xmlAttribute)
-				);
+			if (LiferayTaglibAttributeIndex.containsNamespace(LiferayTaglibAttributeIndex.JAVASCRIPT, namespace)) {
+				return namespace;
 			}
+
+			return null;
+		}
+
+		Map<String, String> namespaces = CachedValuesManager.getCachedValue(
+			jspFile, _JAVASCRIPT_NAMESPACES_KEY,
+			() -> CachedValueProvider.Result.create(
+				new ConcurrentHashMap<>(), PsiModificationTracker.MODIFICATION_COUNT));
+
+		String prefix = xmlTag.getNamespacePrefix();
+
+		String namespace = namespaces.get(prefix);
+
+		if (namespace == null) {
+			namespace = xmlTag.getNamespace();
+
+			if (!LiferayTaglibAttributeIndex.containsNamespace(LiferayTaglibAttributeIndex.JAVASCRIPT, namespace)) {
+				namespace = "";
+			}
+
+			namespaces.put(prefix, namespace);
 		}
+
+		if (namespace.isEmpty()) {
+			return null;
+		}
+
+		return namespace;
+	}
+
+	private static boolean _isJspDocument(JspFile jspFile) {
+		String extension = FileUtilRt.getExtension(jspFile.getName());
+
+		if (extension.equalsIgnoreCase("jspx") || extension.equalsIgnoreCase("tagx")) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean _isLiferayTaglibMentioned(PsiFile psiFile) {
+		return CachedValuesManager.getCachedValue(
+			psiFile, _LIFERAY_TAGLIB_MENTIONED_KEY,
+			() -> CachedValueProvider.Result.create(
+				StringUtil.contains(psiFile.getViewProvider().getContents(), _LIFERAY_TAGLIB_URI_FRAGMENT), psiFile));
 	}
 
 	private void _injectIntoAttribute(MultiHostRegistrar multiHostRegistrar, XmlAttribute xmlAttribute) {
-		Stream.of(
-			xmlAttribute
-		).map(
-			XmlAttribute::getValueElement
-		).filter(
-			Objects::nonNull
-		).map(
-			XmlAttributeValue::getChildren
-		).flatMap(
-			psiElements -> Stream.of(psiElements)
-		).filter(
-			XmlToken.class::isInstance
-		).map(
-			xmlToken -> (XmlToken)xmlToken
-		).map(
-			XmlToken::getTokenType
-		).filter(
-			XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN::equals
-		).findAny(
-		).ifPresent(
-			token -> {
+		XmlAttributeValue xmlAttributeValue = xmlAttribute.getValueElement();
+
+		if (xmlAttributeValue == null) {
+			return;
+		}
+
+		for (PsiElement childPsiElement : xmlAttributeValue.getChildren()) {
+			if (!(childPsiElement instanceof XmlToken)) {
+				continue;
+			}
+
+			XmlToken xmlToken = (XmlToken)childPsiElement;
+
+			if (XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN.equals(xmlToken.getTokenType())) {
 				multiHostRegistrar.startInjecting(JavascriptLanguage.INSTANCE);
 				multiHostRegistrar.addPlace(
-					null, null, (PsiLanguageInjectionHost)xmlAttribute.getValueElement(),
-					xmlAttribute.getValueTextRange());
+					null, null, (PsiLanguageInjectionHost)xmlAttributeValue, xmlAttribute.getValueTextRange());
 				multiHostRegistrar.doneInjecting();
+
+				return;
 			}
-		);
+		}
 	}
 
-	private void _injectIntoBody(MultiHostRegistrar multiHostRegistrar, XmlTag xmlTag) {
-		Stream.of(
-			xmlTag.getChildren()
-		).filter(
-			XmlText.class::isInstance
-		).findAny(
-		).ifPresent(
-			t -> {
-				String prefixWrapper = null;
-				String suffixWrapper = null;
-
-				if (LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI.equals(xmlTag.getNamespace()) &&
-					Objects.equals("validator", xmlTag.getLocalName())) {
-
-					String attributeValue = xmlTag.getAttributeValue("name");
-
-					if (Objects.equals("custom", attributeValue) || Objects.equals("required", attributeValue)) {
-						prefixWrapper = "(";
-						suffixWrapper = ")();";
-					}
-					else {
-						return;
-					}
-				}
-
-				final String prefix = prefixWrapper;
-				final String suffix = suffixWrapper;
+	private void _injectIntoBody(MultiHostRegistrar multiHostRegistrar, XmlTag xmlTag, String namespace) {
+		PsiElement[] childPsiElements = xmlTag.getChildren();
 
-				multiHostRegistrar.startInjecting(JavascriptLanguage.INSTANCE);
+		boolean hasXmlText = false;
 
-				Stream.of(
-					xmlTag.getChildren()
-				).filter(
-					XmlText.class::isInstance
-				).forEach(
-					psiElement -> multiHostRegistrar.addPlace(
-						prefix, suffix, (PsiLanguageInjectionHost)psiElement,
-						new TextRange(0, psiElement.getTextLength()))
-				);
+		for (PsiElement childPsiElement : childPsiElements) {
+			if (childPsiElement instanceof XmlText) {
+				hasXmlText = true;
 
-				multiHostRegistrar.doneInjecting();
+				break;
 			}
-		);
-	}
+		}
+
+		if (!hasXmlText) {
+			return;
+		}
+
+		String prefix = null;
+		String suffix = null;
+
+		if (LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI.equals(namespace) &&
+			Objects.equals("validator", xmlTag.getLocalName())) {
 
-	@SuppressWarnings("serial")
-	private static Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributes =
-		new HashMap<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>() {
-			{
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("a", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("button", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("form", "onSubmit"),
-						new AbstractMap.SimpleImmutableEntry<>("input", "onChange"),
-						new AbstractMap.SimpleImmutableEntry<>("input", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("script", ""),
-						new AbstractMap.SimpleImmutableEntry<>("select", "onChange"),
-						new AbstractMap.SimpleImmutableEntry<>("select", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("validator", "")));
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI_OLD,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("a", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("button", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("form", "onSubmit"),
-						new AbstractMap.SimpleImmutableEntry<>("input", "onChange"),
-						new AbstractMap.SimpleImmutableEntry<>("input", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("script", ""),
-						new AbstractMap.SimpleImmutableEntry<>("select", "onChange"),
-						new AbstractMap.SimpleImmutableEntry<>("select", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("validator", "")));
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_FRONTEND,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("edit-form", "onSubmit"),
-						new AbstractMap.SimpleImmutableEntry<>("html-vertical-card", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("icon-vertical-card", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("vertical-card", "onClick")));
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_UI,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("icon", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("input-checkbox", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("input-move-boxes", "leftOnChange"),
-						new AbstractMap.SimpleImmutableEntry<>("input-move-boxes", "rightOnChange"),
-						new AbstractMap.SimpleImmutableEntry<>("page-iterator", "jsCall"),
-						new AbstractMap.SimpleImmutableEntry<>("quick-access-entry", "onClick"),
-						new AbstractMap.SimpleImmutableEntry<>("tabs", "onClick")));
+			String attributeValue = xmlTag.getAttributeValue("name");
+
+			if (Objects.equals("custom", attributeValue) || Objects.equals("required", attributeValue)) {
+				prefix = "(";
+				suffix = ")();";
 			}
-		};
+			else {
+				return;
+			}
+		}
+
+		multiHostRegistrar.startInjecting(JavascriptLanguage.INSTANCE);
+
+		for (PsiElement childPsiElement : childPsiElements) {
+			if (childPsiElement instanceof XmlText) {
+				multiHostRegistrar.addPlace(
+					prefix, suffix, (PsiLanguageInjectionHost)childPsiElement,
+					new TextRange(0, childPsiElement.getTextLength()));
+			}
+		}
+
+		multiHostRegistrar.doneInjecting();
+	}
+
+	private static final Key<CachedValue<Map<String, String>>> _JAVASCRIPT_NAMESPACES_KEY = Key.create(
+		"LIFERAY_TAGLIB_JAVASCRIPT_NAMESPACES");
+
+	private static final Key<CachedValue<Boolean>> _LIFERAY_TAGLIB_MENTIONED_KEY = Key.create(
+		"LIFERAY_TAGLIB_MENTIONED");
+
+	private static final String _LIFERAY_TAGLIB_URI_FRAGMENT = "liferay.com/tld/";
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tag and attribute declarations of the bundled Liferay TLDs. The TLDs are
+ * compiled into a compact binary resource by the compileTaglibMetadata build
+ * task, so no XML is parsed at runtime. The resource is loaded on first use.
+ * The format constants are duplicated in that task and must be changed in
+ * both places.
+ *
+ * @author agent
+ */
+public class LiferayTaglibMetadata {
+
+	public static final int FORMAT_VERSION = 1;
+
+	public static final int MAGIC = 0x4C544C44;
+
+	public static final String RESOURCE_NAME = "definitions/tld/taglib-metadata.bin";
+
+	public static Attribute getAttribute(String uri, String tagName, String attributeName) {
+		Map<String, Map<String, Attribute>> tags = MetadataHolder._taglibs.get(uri);
+
+		if (tags == null) {
+			return null;
+		}
+
+		Map<String, Attribute> attributes = tags.get(tagName);
+
+		if (attributes == null) {
+			return null;
+		}
+
+		return attributes.get(attributeName);
+	}
+
+	/**
+	 * @return all attributes declared with the given type, e.g. "boolean"
+	 */
+	public static List<Attribute> getAttributes(String type) {
+		List<Attribute> attributes = new ArrayList<>();
+
+		for (Map<String, Map<String, Attribute>> tags : MetadataHolder._taglibs.values()) {
+			for (Map<String, Attribute> tagAttributes : tags.values()) {
+				for (Attribute attribute : tagAttributes.values()) {
+					if (type.equals(attribute.getType())) {
+						attributes.add(attribute);
+					}
+				}
+			}
+		}
+
+		return attributes;
+	}
+
+	protected static Map<String, Map<String, Map<String, Attribute>>> read(InputStream inputStream)
+		throws IOException {
+
+		DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+		if (dataInputStream.readInt() != MAGIC) {
+			throw new IOException("Invalid taglib metadata");
+		}
+
+		int version = dataInputStream.readInt();
+
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported taglib metadata version " + version);
+		}
+
+		Map<String, Map<String, Map<String, Attribute>>> taglibs = new HashMap<>();
+
+		int taglibCount = dataInputStream.readInt();
+
+		for (int i = 0; i < taglibCount; i++) {
+			String uri = dataInputStream.readUTF();
+
+			Map<String, Map<String, Attribute>> tags = new HashMap<>();
+
+			int tagCount = dataInputStream.readInt();
+
+			for (int j = 0; j < tagCount; j++) {
+				String tagName = dataInputStream.readUTF();
+
+				Map<String, Attribute> attributes = new HashMap<>();
+
+				int attributeCount = dataInputStream.readInt();
+
+				for (int k = 0; k < attributeCount; k++) {
+					String name = dataInputStream.readUTF();
+					String type = dataInputStream.readUTF();
+					byte flags = dataInputStream.readByte();
+
+					attributes.put(
+						name,
+						new Attribute(
+							uri, tagName, name, type.isEmpty() ? null : type, (flags & _FLAG_REQUIRED) != 0,
+							(flags & _FLAG_RTEXPRVALUE) != 0));
+				}
+
+				tags.put(tagName, Collections.unmodifiableMap(attributes));
+			}
+
+			taglibs.merge(
+				uri, Collections.unmodifiableMap(tags),
+				(tags1, tags2) -> {
+					Map<String, Map<String, Attribute>> mergedTags = new HashMap<>(tags1);
+
+					mergedTags.putAll(tags2);
+
+					return Collections.unmodifiableMap(mergedTags);
+				});
+		}
+
+		return Collections.unmodifiableMap(taglibs);
+	}
+
+	public static class Attribute {
+
+		public String getName() {
+			return _name;
+		}
+
+		public String getTagName() {
+			return _tagName;
+		}
+
+		/**
+		 * @return the declared type, or <code>null</code> if the TLD does not
+		 *         declare one
+		 */
+		public String getType() {
+			return _type;
+		}
+
+		public String getUri() {
+			return _uri;
+		}
+
+		public boolean isRequired() {
+			return _required;
+		}
+
+		public boolean isRuntimeExpression() {
+			return _runtimeExpression;
+		}
+
+		private Attribute(
+			String uri, String tagName, String name, String type, boolean required, boolean runtimeExpression) {
+
+			_uri = uri;
+			_tagName = tagName;
+			_name = name;
+			_type = type;
+			_required = required;
+			_runtimeExpression = runtimeExpression;
+		}
+
+		private final String _name;
+		private final boolean _required;
+		private final boolean _runtimeExpression;
+		private final String _tagName;
+		private final String _type;
+		private final String _uri;
+
+	}
+
+	private static class MetadataHolder {
+
+		private static Map<String, Map<String, Map<String, Attribute>>> _load() {
+			ClassLoader classLoader = LiferayTaglibMetadata.class.getClassLoader();
+
+			try (InputStream inputStream = classLoader.getResourceAsStream(RESOURCE_NAME)) {
+				if (inputStream != null) {
+					return read(new BufferedInputStream(inputStream));
+				}
+			}
+			catch (IOException ioe) {
+			}
+
+			return Collections.emptyMap();
+		}
+
+		private static final Map<String, Map<String, Map<String, Attribute>>> _taglibs = _load();
+
+	}
+
+	private static final int _FLAG_REQUIRED = 1;
+
+	private static final int _FLAG_RTEXPRVALUE = 2;
+
+}
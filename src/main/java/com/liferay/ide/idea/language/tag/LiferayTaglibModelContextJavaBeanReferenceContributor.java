@@ -16,12 +16,6 @@ package com.liferay.ide.idea.language.tag;
 
 import com.intellij.psi.PsiReferenceProvider;
 
-import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * @author Dominik Marks
  */
@@ -38,26 +32,8 @@ public class LiferayTaglibModelContextJavaBeanReferenceContributor extends Abstr
 	}
 
 	@Override
-	protected Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> getTaglibAttributesMap() {
-		return _taglibAttributes;
+	protected int getTaglibAttributeKind() {
+		return LiferayTaglibAttributeIndex.MODEL_CONTEXT;
 	}
 
-	@SuppressWarnings("serial")
-	private static Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributes =
-		new HashMap<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>() {
-			{
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("input", "field"),
-						new AbstractMap.SimpleImmutableEntry<>("input", "name"),
-						new AbstractMap.SimpleImmutableEntry<>("select", "field"),
-						new AbstractMap.SimpleImmutableEntry<>("select", "name")));
-
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_UI,
-					Arrays.asList(new AbstractMap.SimpleImmutableEntry<>("input-field", "field")));
-			}
-		};
-
 }
\ No newline at end of file
@@ -15,7 +15,6 @@
 package com.liferay.ide.idea.language.tag;
 
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlTag;
 
 import org.jetbrains.annotations.Nullable;
@@ -27,22 +26,18 @@ public class LiferayTaglibModelContextJavaBeanReferenceProvider extends Abstract
 
 	@Nullable
 	@Override
-	protected String getClassName(PsiElement psiElement) {
-		XmlTag xmlTag = PsiTreeUtil.getParentOfType(psiElement, XmlTag.class);
+	protected String getClassName(XmlTag xmlTag) {
+		String modelAttributeValue = xmlTag.getAttributeValue("model");
 
-		if (xmlTag != null) {
-			String modelAttributeValue = xmlTag.getAttributeValue("model");
-
-			if (modelAttributeValue != null) {
-				return modelAttributeValue;
-			}
+		if (modelAttributeValue != null) {
+			return modelAttributeValue;
+		}
 
-			XmlTag modelContextXmlTag = (XmlTag)_getPrevSiblingOrParent(
-				psiElement, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "model-context");
+		XmlTag modelContextXmlTag = (XmlTag)_getPrevSiblingOrParent(
+			xmlTag, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "model-context");
 
-			if (modelContextXmlTag != null) {
-				return modelContextXmlTag.getAttributeValue("model");
-			}
+		if (modelContextXmlTag != null) {
+			return modelContextXmlTag.getAttributeValue("model");
 		}
 
 		return null;
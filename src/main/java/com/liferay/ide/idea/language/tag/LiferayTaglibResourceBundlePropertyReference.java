@@ -21,14 +21,19 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementResolveResult;
 import com.intellij.psi.ResolveResult;
 
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Stream;
+import com.liferay.ide.idea.language.resourcebundle.LiferayLanguageKeyIndex;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
+ * Resolves and completes language keys against Language*.properties files
+ * only. The files are looked up in the LiferayLanguageKeyIndex, so no other
+ * properties file is loaded.
+ *
  * @author Dominik Marks
  */
 public class LiferayTaglibResourceBundlePropertyReference extends PropertyReference {
@@ -42,57 +47,33 @@ public class LiferayTaglibResourceBundlePropertyReference extends PropertyRefere
 	@NotNull
 	@Override
 	public ResolveResult[] multiResolve(boolean incompleteCode) {
-		Stream<ResolveResult> stream = Arrays.stream(super.multiResolve(incompleteCode));
-
-		return stream.filter(
-			resolveResult -> Stream.of(
-				resolveResult
-			).filter(
-				result -> result instanceof PsiElementResolveResult
-			).map(
-				result -> {
-					PsiElementResolveResult psiElementResolveResult = (PsiElementResolveResult)result;
-
-					return psiElementResolveResult.getElement();
-				}
-			).filter(
-				psiElement -> psiElement instanceof IProperty
-			).map(
-				psiElement -> {
-					IProperty property = (IProperty)psiElement;
-
-					return property.getPropertiesFile();
-				}
-			).anyMatch(
-				LiferayTaglibResourceBundlePropertyReference::_isLanguageFile
-			)
-		).toArray(
-			ResolveResult[]::new
-		);
-	}
+		PsiElement psiElement = getElement();
 
-	@Override
-	protected void addKey(Object propertyObject, Set<Object> variants) {
-		if (propertyObject instanceof IProperty) {
-			IProperty property = (IProperty)propertyObject;
+		String key = getCanonicalText();
 
-			if (_isLanguageFile(property.getPropertiesFile())) {
-				//only add properties from Language files during code completion
-				super.addKey(propertyObject, variants);
-			}
-		}
-	}
+		List<PropertiesFile> propertiesFiles = LiferayLanguageKeyIndex.getPropertiesFiles(
+			psiElement.getProject(), key, psiElement.getResolveScope());
 
-	private static boolean _isLanguageFile(PropertiesFile propertiesFile) {
-		if (propertiesFile != null) {
-			String name = propertiesFile.getName();
+		List<ResolveResult> resolveResults = new ArrayList<>();
 
-			if (name != null) {
-				return name.startsWith("Language");
+		for (PropertiesFile propertiesFile : propertiesFiles) {
+			for (IProperty property : propertiesFile.findPropertiesByKey(key)) {
+				resolveResults.add(new PsiElementResolveResult(property.getPsiElement()));
 			}
 		}
 
-		return false;
+		return resolveResults.toArray(ResolveResult.EMPTY_ARRAY);
+	}
+
+	/**
+	 * Limits code completion to the keys of Language files.
+	 */
+	@Nullable
+	@Override
+	protected List<PropertiesFile> getPropertiesFiles() {
+		PsiElement psiElement = getElement();
+
+		return LiferayLanguageKeyIndex.getPropertiesFiles(psiElement.getProject(), psiElement.getResolveScope());
 	}
 
-}
\ No newline at end of file
+}
@@ -16,12 +16,6 @@ package com.liferay.ide.idea.language.tag;
 
 import com.intellij.psi.PsiReferenceProvider;
 
-import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * @author Dominik Marks
  */
@@ -39,26 +33,8 @@ public class LiferayTaglibSearchContainerJavaBeanReferenceContributor
 	}
 
 	@Override
-	protected Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> getTaglibAttributesMap() {
-		return _taglibAttributes;
+	protected int getTaglibAttributeKind() {
+		return LiferayTaglibAttributeIndex.SEARCH_CONTAINER;
 	}
 
-	@SuppressWarnings("serial")
-	private static Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributes =
-		new HashMap<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>() {
-			{
-				put(
-					LiferayTaglibs.TAGLIB_URI_LIFERAY_UI,
-					Arrays.asList(
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-text", "property"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-text", "name"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-text", "orderableProperty"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-date", "property"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-status", "property"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-column-user", "property"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-row", "keyProperty"),
-						new AbstractMap.SimpleImmutableEntry<>("search-container-row", "rowIdProperty")));
-			}
-		};
-
 }
\ No newline at end of file
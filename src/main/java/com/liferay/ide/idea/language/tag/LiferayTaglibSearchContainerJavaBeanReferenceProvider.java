@@ -30,15 +30,15 @@ public class LiferayTaglibSearchContainerJavaBeanReferenceProvider
 
 	@Nullable
 	@Override
-	protected String getClassName(PsiElement element) {
+	protected String getClassName(XmlTag xmlTag) {
 		PsiElement classNamePsiElement = PsiTreeUtil.findFirstParent(
-			element,
+			xmlTag,
 			psiElement -> {
 				if (psiElement instanceof XmlTag) {
-					XmlTag xmlTag = (XmlTag)psiElement;
+					XmlTag parentXmlTag = (XmlTag)psiElement;
 
-					if (LiferayTaglibs.TAGLIB_URI_LIFERAY_UI.equals(xmlTag.getNamespace())) {
-						return Objects.equals("search-container-row", xmlTag.getLocalName());
+					if (LiferayTaglibs.TAGLIB_URI_LIFERAY_UI.equals(parentXmlTag.getNamespace())) {
+						return Objects.equals("search-container-row", parentXmlTag.getLocalName());
 					}
 				}
 
@@ -46,9 +46,9 @@ public class LiferayTaglibSearchContainerJavaBeanReferenceProvider
 			});
 
 		if (classNamePsiElement != null) {
-			XmlTag xmlTag = (XmlTag)classNamePsiElement;
+			XmlTag classNameXmlTag = (XmlTag)classNamePsiElement;
 
-			return xmlTag.getAttributeValue("className");
+			return classNameXmlTag.getAttributeValue("className");
 		}
 
 		return null;
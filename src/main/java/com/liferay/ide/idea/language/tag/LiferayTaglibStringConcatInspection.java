@@ -21,6 +21,7 @@ import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.codeInspection.XmlSuppressableInspectionTool;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.JspPsiUtil;
 import com.intellij.psi.PsiDocumentManager;
@@ -29,6 +30,9 @@ import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.XmlElementVisitor;
 import com.intellij.psi.impl.source.jsp.jspXml.JspExpression;
 import com.intellij.psi.jsp.JspFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlAttributeValue;
@@ -40,6 +44,8 @@ import com.intellij.xml.XmlElementDescriptor;
 
 import com.liferay.ide.idea.core.LiferayInspectionsConstants;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -68,11 +74,8 @@ public class LiferayTaglibStringConcatInspection extends XmlSuppressableInspecti
 					return;
 				}
 
-				XmlElementDescriptor xmlElementDescriptor = xmlTag.getDescriptor();
-
-				if ((xmlElementDescriptor != null) &&
-					_isRuntimeExpressionAttribute(xmlElementDescriptor, xmlAttribute.getName()) &&
-					_containsTextAndJspExpressions(xmlAttribute.getValueElement())) {
+				if (_containsTextAndJspExpressions(xmlAttribute.getValueElement()) &&
+					_isRuntimeExpressionAttribute(xmlTag, xmlAttribute.getName())) {
 
 					problemsHolder.registerProblem(
 						xmlAttribute.getValueElement(),
@@ -136,26 +139,50 @@ public class LiferayTaglibStringConcatInspection extends XmlSuppressableInspecti
 		return false;
 	}
 
+	private static boolean _isRuntimeExpressionAttribute(XmlTag xmlTag, String name) {
+		XmlElementDescriptor xmlElementDescriptor = xmlTag.getDescriptor();
+
+		if (xmlElementDescriptor == null) {
+			return false;
+		}
+
+		return _isRuntimeExpressionAttribute(xmlElementDescriptor, name);
+	}
+
 	private static boolean _isRuntimeExpressionAttribute(XmlElementDescriptor xmlElementDescriptor, String name) {
 		PsiElement declarationPsiElement = xmlElementDescriptor.getDeclaration();
 
-		if (declarationPsiElement instanceof XmlTag) {
-			XmlTag declarationXmlTag = (XmlTag)declarationPsiElement;
+		if (!(declarationPsiElement instanceof XmlTag)) {
+			return false;
+		}
 
-			XmlTag[] attributeXmlTags = declarationXmlTag.findSubTags("attribute");
+		XmlTag declarationXmlTag = (XmlTag)declarationPsiElement;
 
-			for (XmlTag attributeXmlTag : attributeXmlTags) {
-				String attributeName = attributeXmlTag.getSubTagText("name");
+		Map<String, Boolean> runtimeExpressionAttributes = CachedValuesManager.getCachedValue(
+			declarationXmlTag, _RUNTIME_EXPRESSION_ATTRIBUTES_KEY,
+			() -> CachedValueProvider.Result.create(
+				_getRuntimeExpressionAttributes(declarationXmlTag), declarationXmlTag.getContainingFile()));
 
-				if (name.equals(attributeName)) {
-					String rtexprvalue = attributeXmlTag.getSubTagText("rtexprvalue");
+		return runtimeExpressionAttributes.getOrDefault(name, Boolean.FALSE);
+	}
 
-					return Objects.equals("true", rtexprvalue);
-				}
+	/**
+	 * @return the rtexprvalue of each attribute of the tag declaration, keyed
+	 *         by attribute name
+	 */
+	private static Map<String, Boolean> _getRuntimeExpressionAttributes(XmlTag declarationXmlTag) {
+		Map<String, Boolean> runtimeExpressionAttributes = new HashMap<>();
+
+		for (XmlTag attributeXmlTag : declarationXmlTag.findSubTags("attribute")) {
+			String attributeName = attributeXmlTag.getSubTagText("name");
+
+			if (attributeName != null) {
+				runtimeExpressionAttributes.putIfAbsent(
+					attributeName, Objects.equals("true", attributeXmlTag.getSubTagText("rtexprvalue")));
 			}
 		}
 
-		return false;
+		return runtimeExpressionAttributes;
 	}
 
 	private static class WrapInJSpExpression implements LocalQuickFix {
@@ -251,4 +278,7 @@ public class LiferayTaglibStringConcatInspection extends XmlSuppressableInspecti
 
 	}
 
-}
\ No newline at end of file
+	private static final Key<CachedValue<Map<String, Boolean>>> _RUNTIME_EXPRESSION_ATTRIBUTES_KEY = Key.create(
+		"LIFERAY_TAGLIB_RUNTIME_EXPRESSION_ATTRIBUTES");
+
+}
@@ -40,7 +40,6 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.options.SettingsEditorGroup;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.InvalidDataException;
 import com.intellij.openapi.util.WriteExternalException;
@@ -348,7 +347,7 @@ public class LiferayDockerServerConfiguration
 						@Override
 						public ProjectInfo compute() {
 							try {
-								return GradleUtil.getModel(ProjectInfo.class, ProjectUtil.guessProjectDir(_project));
+								return GradleUtil.getModel(ProjectInfo.class, _project);
 							}
 							catch (Exception e) {
 							}
@@ -20,7 +20,6 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.ui.LabeledComponent;
 import com.intellij.openapi.util.Computable;
 import com.intellij.ui.PanelWithAnchor;
@@ -72,8 +71,7 @@ public class LiferayDockerServerConfigurationEditor
 							@Override
 							public ProjectInfo compute() {
 								try {
-									return GradleUtil.getModel(
-										ProjectInfo.class, ProjectUtil.guessProjectDir(_project));
+									return GradleUtil.getModel(ProjectInfo.class, _project);
 								}
 								catch (Exception e) {
 								}
@@ -42,6 +42,7 @@ import com.intellij.util.messages.MessageBus;
 import com.intellij.util.messages.MessageBusConnection;
 
 import com.liferay.ide.idea.util.FileUtil;
+import com.liferay.ide.idea.util.LiferayMetrics;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 import com.liferay.ide.idea.util.ServerUtil;
 
@@ -140,7 +141,11 @@ public abstract class AbstractLiferayAction extends AnAction implements LiferayW
 
 		Presentation eventPresentation = anActionEvent.getPresentation();
 
-		eventPresentation.setEnabledAndVisible(isEnabledAndVisible(anActionEvent));
+		LiferayMetrics.Timer timer = LiferayMetrics.timer(_getMetricName("update"));
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			eventPresentation.setEnabledAndVisible(isEnabledAndVisible(anActionEvent));
+		}
 	}
 
 	@Nullable
@@ -225,10 +230,20 @@ public abstract class AbstractLiferayAction extends AnAction implements LiferayW
 		return false;
 	}
 
+	private String _getMetricName(String phase) {
+		Class<?> clazz = getClass();
+
+		return "action." + clazz.getSimpleName() + "." + phase;
+	}
+
 	private void _perform(AnActionEvent anActionEvent, Project project) {
-		RunnerAndConfigurationSettings runnerAndConfigurationSettings = processRunnerConfiguration(anActionEvent);
+		LiferayMetrics.Timer timer = LiferayMetrics.timer(_getMetricName("perform"));
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			RunnerAndConfigurationSettings runnerAndConfigurationSettings = processRunnerConfiguration(anActionEvent);
 
-		doExecute(anActionEvent, runnerAndConfigurationSettings);
+			doExecute(anActionEvent, runnerAndConfigurationSettings);
+		}
 
 		MessageBus messageBus = project.getMessageBus();
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.ui.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.ui.Messages;
+
+import com.liferay.ide.idea.util.FileUtil;
+import com.liferay.ide.idea.util.LiferayMetrics;
+
+import java.awt.datatransfer.StringSelection;
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Dumps the plugin metrics as JSON, so they can be attached to tickets.
+ *
+ * @author agent
+ */
+public class LiferayPerformanceSnapshotAction extends AnAction implements DumbAware {
+
+	@Override
+	public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+		String json = LiferayMetrics.toJson();
+
+		CopyPasteManager copyPasteManager = CopyPasteManager.getInstance();
+
+		copyPasteManager.setContents(new StringSelection(json));
+
+		Path snapshotPath = Paths.get(
+			System.getProperty("user.home"), ".liferay-intellij-plugin", "metrics",
+			"snapshot-" + System.currentTimeMillis() + ".json");
+
+		try {
+			FileUtil.writeFileAtomically(snapshotPath, json.getBytes(StandardCharsets.UTF_8));
+
+			Messages.showInfoMessage(
+				anActionEvent.getProject(),
+				"Liferay performance snapshot was copied to the clipboard and saved to " + snapshotPath,
+				"Liferay Performance Snapshot");
+		}
+		catch (IOException ioe) {
+			Messages.showInfoMessage(
+				anActionEvent.getProject(),
+				"Liferay performance snapshot was copied to the clipboard, but could not be saved: " +
+					ioe.getMessage(),
+				"Liferay Performance Snapshot");
+		}
+	}
+
+}
@@ -32,24 +32,14 @@ import com.intellij.ui.treeStructure.Tree;
 import com.liferay.ide.idea.core.WorkspaceConstants;
 import com.liferay.ide.idea.util.BladeCLI;
 import com.liferay.ide.idea.util.CoreUtil;
-import com.liferay.ide.idea.util.FileUtil;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+import com.liferay.ide.idea.util.ProjectTemplateVersionRangeIndex;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 
-import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Path;
-
-import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
@@ -64,8 +54,6 @@ import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 import javax.swing.tree.TreeSelectionModel;
 
-import org.apache.commons.io.IOUtils;
-
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -190,27 +178,32 @@ public class LiferayModuleWizardStep extends ModuleWizardStep implements Liferay
 			_mainPanel.repaint();
 		}
 
-		SwingUtilities.invokeLater(
+		application.executeOnPooledThread(
 			() -> {
-				DefaultMutableTreeNode root = new DefaultMutableTreeNode("root", true);
+				String[] projectTemplates = BladeCLI.getProjectTemplates();
 
-				for (String type : BladeCLI.getProjectTemplates()) {
-					if (Objects.equals("fragment", type) || Objects.equals("modules-ext", type) ||
-						Objects.equals("spring-mvc-portlet", type)) {
+				SwingUtilities.invokeLater(
+					() -> {
+						DefaultMutableTreeNode root = new DefaultMutableTreeNode("root", true);
 
-						continue;
-					}
+						for (String type : projectTemplates) {
+							if (Objects.equals("fragment", type) || Objects.equals("modules-ext", type) ||
+								Objects.equals("spring-mvc-portlet", type)) {
 
-					DefaultMutableTreeNode node = new DefaultMutableTreeNode(type, true);
+								continue;
+							}
 
-					root.add(node);
-				}
+							DefaultMutableTreeNode node = new DefaultMutableTreeNode(type, true);
 
-				TreeModel model = new DefaultTreeModel(root);
+							root.add(node);
+						}
+
+						TreeModel model = new DefaultTreeModel(root);
 
-				_typesTree.setModel(model);
+						_typesTree.setModel(model);
 
-				_typesTree.setSelectionRow(0);
+						_typesTree.setSelectionRow(0);
+					});
 			});
 	}
 
@@ -376,75 +369,23 @@ public class LiferayModuleWizardStep extends ModuleWizardStep implements Liferay
 	private void _loadSupportedVersionRanges() {
 		File bladeJar = BladeCLI.getBladeJar(BladeCLI.getBladeJarVersion());
 
-		if (bladeJar != null) {
-			try (ZipFile zipFile = new ZipFile(bladeJar)) {
-				Enumeration<? extends ZipEntry> entries = zipFile.entries();
-
-				while (entries.hasMoreElements()) {
-					ZipEntry entry = entries.nextElement();
-
-					String entryName = entry.getName();
-
-					if (entryName.endsWith(".jar") && entryName.startsWith("com.liferay.project.templates.")) {
-						try (InputStream in = zipFile.getInputStream(entry)) {
-							Path tempDirectory = Files.createTempDirectory("template-directory-for-blade");
-
-							File stateFile = tempDirectory.toFile();
-
-							File tempFile = new File(stateFile, entryName);
-
-							FileUtil.writeFile(tempFile, in);
-
-							try (ZipFile tempZipFile = new ZipFile(tempFile)) {
-								Enumeration<? extends ZipEntry> tempEntries = tempZipFile.entries();
-
-								while (tempEntries.hasMoreElements()) {
-									ZipEntry tempEntry = tempEntries.nextElement();
-
-									String tempEntryName = tempEntry.getName();
+		Map<String, String> versionRanges = ProjectTemplateVersionRangeIndex.getVersionRanges(bladeJar);
 
-									if (tempEntryName.equals("META-INF/MANIFEST.MF")) {
-										try (InputStream manifestInput = tempZipFile.getInputStream(tempEntry)) {
-											List<String> lines = IOUtils.readLines(
-												manifestInput, Charset.defaultCharset());
+		Map<String, VersionRange> projectTemplateVersionRangeMap = new HashMap<>();
 
-											for (String line : lines) {
-												String liferayVersionString = "Liferay-Versions:";
-
-												if (line.startsWith(liferayVersionString)) {
-													String versionRangeValue = line.substring(
-														liferayVersionString.length());
-
-													String projectTemplateName = entryName.substring(
-														"com.liferay.project.templates.".length(),
-														entryName.indexOf("-"));
-
-													_projectTemplateVersionRangeMap.put(
-														projectTemplateName, new VersionRange(versionRangeValue));
-
-													break;
-												}
-											}
-										}
-
-										break;
-									}
-								}
-							}
-
-							tempFile.delete();
-
-							stateFile.delete();
-						}
-					}
+		versionRanges.forEach(
+			(projectTemplateName, versionRange) -> {
+				try {
+					projectTemplateVersionRangeMap.put(projectTemplateName, new VersionRange(versionRange));
 				}
-			}
-			catch (IOException ioe) {
-			}
-		}
+				catch (IllegalArgumentException iae) {
+				}
+			});
+
+		_projectTemplateVersionRangeMap = projectTemplateVersionRangeMap;
 	}
 
-	private static Map<String, VersionRange> _projectTemplateVersionRangeMap = new HashMap<>();
+	private static volatile Map<String, VersionRange> _projectTemplateVersionRangeMap = new HashMap<>();
 
 	private LiferayModuleBuilder _builder;
 	private JTextField _className;
@@ -23,6 +23,7 @@ import com.intellij.ide.util.projectWizard.WizardContext;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.module.ModuleType;
 import com.intellij.openapi.module.StdModuleTypes;
 import com.intellij.openapi.project.Project;
@@ -48,6 +49,7 @@ import java.util.List;
 import java.util.Properties;
 import java.util.stream.Stream;
 
+import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
@@ -160,10 +162,15 @@ public abstract class LiferayWorkspaceBuilder extends ModuleBuilder {
 			e -> {
 				boolean showAllProductVersion = showAllProductVersionCheckBox.isSelected();
 
-				_initProductVersionComBox(productVersionComboBox, showAllProductVersion);
+				_initProductVersionComBox(productVersionComboBox, showAllProductVersion, false);
 			});
 
-		_initProductVersionComBox(productVersionComboBox, false);
+		_initProductVersionComBox(productVersionComboBox, false, false);
+
+		JButton refreshProductVersionButton = new JButton("Refresh");
+
+		refreshProductVersionButton.addActionListener(
+			e -> _initProductVersionComBox(productVersionComboBox, showAllProductVersionCheckBox.isSelected(), true));
 
 		productVersionComboBox.addActionListener(
 			new ActionListener() {
@@ -199,6 +206,8 @@ public abstract class LiferayWorkspaceBuilder extends ModuleBuilder {
 
 		settingsStep.addSettingsField("Show All Product Versions", showAllProductVersionCheckBox);
 
+		settingsStep.addSettingsField("Refresh Product Versions", refreshProductVersionButton);
+
 		settingsStep.addSettingsField("Index Sources:", indexSourcesCheckBox);
 
 		settingsStep.addSettingsField("", customLabel);
@@ -289,29 +298,44 @@ public abstract class LiferayWorkspaceBuilder extends ModuleBuilder {
 		}
 	}
 
-	private void _initProductVersionComBox(JComboBox<String> productVersionComboBox, boolean showAllProductVersion) {
+	private void _initProductVersionComBox(
+		JComboBox<String> productVersionComboBox, boolean showAllProductVersion, boolean refresh) {
+
 		Application application = ApplicationManager.getApplication();
 
 		application.executeOnPooledThread(
 			() -> {
-				List<String> allWorkspaceProducts = Arrays.asList(BladeCLI.getWorkspaceProducts(showAllProductVersion));
+				String[] workspaceProducts;
 
-				if (!ListUtil.isEmpty(allWorkspaceProducts)) {
-					productVersionComboBox.removeAllItems();
+				if (refresh) {
+					workspaceProducts = BladeCLI.refreshWorkspaceProducts(showAllProductVersion);
+				}
+				else {
+					workspaceProducts = BladeCLI.getWorkspaceProducts(showAllProductVersion);
 				}
 
-				allWorkspaceProducts.stream(
-				).forEach(
-					productVersion -> productVersionComboBox.addItem(productVersion)
-				);
+				List<String> allWorkspaceProducts = Arrays.asList(workspaceProducts);
+
+				application.invokeLater(
+					() -> {
+						if (!ListUtil.isEmpty(allWorkspaceProducts)) {
+							productVersionComboBox.removeAllItems();
+						}
 
-				int defaultProductVersionIndex = allWorkspaceProducts.indexOf(
-					WorkspaceConstants.DEFAULT_PRODUCT_VERSION);
+						allWorkspaceProducts.stream(
+						).forEach(
+							productVersion -> productVersionComboBox.addItem(productVersion)
+						);
 
-				productVersionComboBox.setSelectedIndex(
-					(defaultProductVersionIndex == -1) ? 0 : defaultProductVersionIndex);
+						int defaultProductVersionIndex = allWorkspaceProducts.indexOf(
+							WorkspaceConstants.DEFAULT_PRODUCT_VERSION);
 
-				_productVersion = (String)productVersionComboBox.getSelectedItem();
+						productVersionComboBox.setSelectedIndex(
+							(defaultProductVersionIndex == -1) ? 0 : defaultProductVersionIndex);
+
+						_productVersion = (String)productVersionComboBox.getSelectedItem();
+					},
+					ModalityState.any());
 			});
 	}
 
@@ -16,6 +16,7 @@ package com.liferay.ide.idea.ui.modules;
 
 import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.externalSystem.service.notification.ExternalSystemNotificationManager;
 import com.intellij.openapi.externalSystem.service.notification.NotificationCategory;
 import com.intellij.openapi.externalSystem.service.notification.NotificationData;
@@ -44,6 +45,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
@@ -74,7 +76,7 @@ public class LiferayWorkspaceProductDialog extends DialogWrapper {
 	@Nullable
 	@Override
 	protected JComponent createCenterPanel() {
-		JPanel dialogPanel = new JPanel(new GridLayout(2, 2));
+		JPanel dialogPanel = new JPanel(new GridLayout(3, 2));
 
 		JLabel productVersionLabel = new JLabel("Product Version:");
 
@@ -101,6 +103,15 @@ public class LiferayWorkspaceProductDialog extends DialogWrapper {
 
 		dialogPanel.add(showAllProductVersionCheckBox);
 
+		JButton refreshProductVersionButton = new JButton("Refresh");
+
+		refreshProductVersionButton.addActionListener(
+			e -> rendererProductVersion(showAllProductVersionCheckBox.isSelected(), true));
+
+		dialogPanel.add(new JLabel("Refresh Product Versions:"));
+
+		dialogPanel.add(refreshProductVersionButton);
+
 		rendererProductVersion(false);
 
 		return dialogPanel;
@@ -176,6 +187,10 @@ public class LiferayWorkspaceProductDialog extends DialogWrapper {
 	}
 
 	protected void rendererProductVersion(boolean showAll) {
+		rendererProductVersion(showAll, false);
+	}
+
+	protected void rendererProductVersion(boolean showAll, boolean refresh) {
 		Application application = ApplicationManager.getApplication();
 
 		application.executeOnPooledThread(
@@ -183,22 +198,35 @@ public class LiferayWorkspaceProductDialog extends DialogWrapper {
 
 				@Override
 				public void run() {
-					List<String> allWorkspaceProducts = Arrays.asList(BladeCLI.getWorkspaceProducts(showAll));
+					String[] workspaceProducts;
 
-					if (!ListUtil.isEmpty(allWorkspaceProducts)) {
-						_productVersionComboBox.removeAllItems();
+					if (refresh) {
+						workspaceProducts = BladeCLI.refreshWorkspaceProducts(showAll);
+					}
+					else {
+						workspaceProducts = BladeCLI.getWorkspaceProducts(showAll);
 					}
 
-					allWorkspaceProducts.stream(
-					).forEach(
-						productVersion -> _productVersionComboBox.addItem(productVersion)
-					);
+					List<String> allWorkspaceProducts = Arrays.asList(workspaceProducts);
+
+					application.invokeLater(
+						() -> {
+							if (!ListUtil.isEmpty(allWorkspaceProducts)) {
+								_productVersionComboBox.removeAllItems();
+							}
+
+							allWorkspaceProducts.stream(
+							).forEach(
+								productVersion -> _productVersionComboBox.addItem(productVersion)
+							);
 
-					int defaultProductVersionIndex = allWorkspaceProducts.indexOf(
-						WorkspaceConstants.DEFAULT_PRODUCT_VERSION);
+							int defaultProductVersionIndex = allWorkspaceProducts.indexOf(
+								WorkspaceConstants.DEFAULT_PRODUCT_VERSION);
 
-					_productVersionComboBox.setSelectedIndex(
-						(defaultProductVersionIndex == -1) ? 0 : defaultProductVersionIndex);
+							_productVersionComboBox.setSelectedIndex(
+								(defaultProductVersionIndex == -1) ? 0 : defaultProductVersionIndex);
+						},
+						ModalityState.any());
 				}
 
 			});
@@ -14,27 +14,27 @@
 
 package com.liferay.ide.idea.ui.modules.ext;
 
-import com.google.common.collect.Lists;
-
 import com.intellij.ide.util.projectWizard.ModuleWizardStep;
 import com.intellij.ide.util.projectWizard.WizardContext;
 import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskId;
-import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskNotificationListenerAdapter;
-import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskType;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.project.Project;
 import com.intellij.ui.ColoredListCellRenderer;
 import com.intellij.util.ui.UIUtil;
 
+import com.liferay.ide.idea.core.LiferayTargetPlatformDependencyService;
 import com.liferay.ide.idea.util.CoreUtil;
 import com.liferay.ide.idea.util.GradleUtil;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 
 import java.awt.event.ItemEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.swing.ComboBoxEditor;
 import javax.swing.JComboBox;
@@ -47,8 +47,6 @@ import javax.swing.SwingUtilities;
 import javax.swing.plaf.basic.BasicComboBoxEditor;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.plugins.gradle.service.task.GradleTaskManager;
-import org.jetbrains.plugins.gradle.util.GradleConstants;
 
 import org.osgi.framework.Version;
 
@@ -212,50 +210,37 @@ public class LiferayModuleExtWizardStep extends ModuleWizardStep implements Life
 			return;
 		}
 
-		GradleTaskManager gradleTaskManager = new GradleTaskManager();
-
-		final boolean[] dependencyStringStart = {false};
-
-		gradleTaskManager.executeTasks(
-			ExternalSystemTaskId.create(GradleConstants.SYSTEM_ID, ExternalSystemTaskType.EXECUTE_TASK, _project),
-			Lists.newArrayList("dependencyManagement"), _project.getBasePath(), null, null,
-			new ExternalSystemTaskNotificationListenerAdapter() {
-
-				@Override
-				public void onTaskOutput(@NotNull ExternalSystemTaskId id, @NotNull String text, boolean stdOut) {
-					String projectId = ExternalSystemTaskId.getProjectId(_project);
+		LiferayTargetPlatformDependencyService targetPlatformDependencyService =
+			LiferayTargetPlatformDependencyService.getInstance(_project);
 
-					if (!projectId.equals(id.getIdeProjectId())) {
-						return;
-					}
-
-					if (text.contains("Task :dependencyManagement")) {
-						dependencyStringStart[0] = true;
-
-						return;
-					}
+		List<String> dependencies = targetPlatformDependencyService.getCachedDependencies();
 
-					if (dependencyStringStart[0] == true) {
-						String dependencyStringRemoveT = text.replace("\t", "");
+		if (dependencies == null) {
+			Future<List<String>> future = targetPlatformDependencyService.refreshInBackground();
 
-						String dependencyString = dependencyStringRemoveT.replace("\n", "");
+			try {
+				dependencies = future.get();
+			}
+			catch (ExecutionException | InterruptedException e) {
+				return;
+			}
+		}
 
-						String[] dependencyValues = dependencyString.split(":");
+		List<String> liferayDependencies = new ArrayList<>();
 
-						if (dependencyValues[0].equals("com.liferay")) {
-							SwingUtilities.invokeLater(
-								new Runnable() {
+		for (String dependency : dependencies) {
+			String[] dependencyValues = dependency.split(":");
 
-									@Override
-									public void run() {
-										_originalModuleNameComboBox.addItem(dependencyString);
-									}
+			if (dependencyValues[0].equals("com.liferay")) {
+				liferayDependencies.add(dependency);
+			}
+		}
 
-								});
-						}
-					}
+		SwingUtilities.invokeLater(
+			() -> {
+				for (String dependency : liferayDependencies) {
+					_originalModuleNameComboBox.addItem(dependency);
 				}
-
 			});
 	}
 
@@ -16,18 +16,25 @@ package com.liferay.ide.idea.util;
 
 import com.intellij.openapi.project.ProjectManager;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
@@ -49,6 +56,165 @@ public class BladeCLI {
 	public static final String BLADE_LATEST = "blade-latest.jar";
 
 	public static String[] execute(File bladeJar, String args) {
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("blade.execute");
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			BladeWorkerPool bladeWorkerPool = BladeWorkerPool.getInstance();
+
+			if (bladeWorkerPool != null) {
+				String[] lines = bladeWorkerPool.execute(bladeJar, args);
+
+				if (lines != null) {
+					LiferayMetrics.Counter counter = LiferayMetrics.counter("blade.execute.worker");
+
+					counter.increment();
+
+					return lines;
+				}
+			}
+
+			LiferayMetrics.Counter counter = LiferayMetrics.counter("blade.execute.fork");
+
+			counter.increment();
+
+			return _fork(bladeJar, args);
+		}
+	}
+
+	public static String[] execute(String args) {
+		return execute(getBladeJar(getBladeJarVersion()), args);
+	}
+
+	public static String[] executeWithLatestBlade(String args) {
+		return execute(getBladeJar(BLADE_LATEST), args);
+	}
+
+	public static File getBladeJar(String jarName) {
+		Properties properties = System.getProperties();
+
+		File temp = new File(properties.getProperty("user.home"), ".liferay-intellij-plugin");
+
+		File bladeJar = new File(temp, jarName);
+
+		BladeJarInfo bundledBladeJarInfo = _getBundledBladeJarInfo(jarName);
+
+		if (bundledBladeJarInfo == null) {
+			return bladeJar;
+		}
+
+		if (_isUpToDate(bladeJar, _readBladeJarInfo(bladeJar), bundledBladeJarInfo)) {
+			return bladeJar;
+		}
+
+		synchronized (BladeCLI.class) {
+			BladeJarInfo existingBladeJarInfo = _readBladeJarInfo(bladeJar);
+
+			if (_isUpToDate(bladeJar, existingBladeJarInfo, bundledBladeJarInfo)) {
+				return bladeJar;
+			}
+
+			if ((existingBladeJarInfo == null) && bladeJar.isFile()) {
+
+				// jars materialized before the info file existed are kept if they are not older
+
+				try {
+					existingBladeJarInfo = _createBladeJarInfo(Files.readAllBytes(bladeJar.toPath()));
+
+					if (_isUpToDate(bladeJar, existingBladeJarInfo, bundledBladeJarInfo)) {
+						_writeBladeJarInfo(bladeJar, existingBladeJarInfo);
+
+						return bladeJar;
+					}
+				}
+				catch (IOException ioe) {
+				}
+			}
+
+			ClassLoader bladeClassLoader = BladeCLI.class.getClassLoader();
+
+			try (InputStream inputStream = bladeClassLoader.getResourceAsStream("/libs/" + jarName)) {
+				if (inputStream != null) {
+					FileUtil.writeFileAtomically(bladeJar.toPath(), inputStream.readAllBytes());
+
+					_writeBladeJarInfo(bladeJar, bundledBladeJarInfo);
+				}
+			}
+			catch (IOException ioe) {
+			}
+		}
+
+		return bladeJar;
+	}
+
+	/**
+	 * Returns the SHA-1 checksum of a Blade jar materialized by
+	 * {@link #getBladeJar(String)}, as recorded next to it, or null if unknown.
+	 */
+	public static String getBladeJarChecksum(File bladeJar) {
+		BladeJarInfo bladeJarInfo = _readBladeJarInfo(bladeJar);
+
+		if ((bladeJarInfo == null) || (bladeJarInfo._length != bladeJar.length())) {
+			return null;
+		}
+
+		return bladeJarInfo._checksum;
+	}
+
+	public static String getBladeJarVersion() {
+		ProjectManager projectManager = ProjectManager.getInstance();
+
+		com.intellij.openapi.project.Project workspaceProject = projectManager.getOpenProjects()[0];
+
+		if (Objects.nonNull(workspaceProject) &&
+			!LiferayWorkspaceSupport.isFlexibleLiferayWorkspace(workspaceProject)) {
+
+			return BLADE_392;
+		}
+
+		return BLADE_LATEST;
+	}
+
+	public static String[] getProjectTemplates() {
+		File bladeJar = getBladeJar(getBladeJarVersion());
+
+		return _getCatalogue(bladeJar, "project-templates", false, () -> _listProjectTemplates(bladeJar));
+	}
+
+	public static String[] getWorkspaceProducts(boolean showAll) {
+		return _getWorkspaceProducts(showAll, false);
+	}
+
+	/**
+	 * Fills the on-disk catalogues used by the wizards, so they do not have to
+	 * wait for Blade the first time they are opened in a Liferay workspace.
+	 */
+	public static void prewarm() {
+		getWorkspaceProducts(false);
+		getWorkspaceProducts(true);
+		getProjectTemplates();
+	}
+
+	public static String[] refreshWorkspaceProducts(boolean showAll) {
+		return _getWorkspaceProducts(showAll, true);
+	}
+
+	private static BladeJarInfo _createBladeJarInfo(byte[] bytes) {
+		String version = _getBladeVersion(new ByteArrayInputStream(bytes));
+
+		if (version == null) {
+			return null;
+		}
+
+		try {
+			return new BladeJarInfo(
+				_toHexString(FileUtil.getChecksum(bytes)), bytes.length, Version.parseVersion(version));
+		}
+		catch (IllegalArgumentException iae) {
+			return null;
+		}
+	}
+
+	private static String[] _fork(File bladeJar, String args) {
 		Project project = new Project();
 		Java javaTask = new Java();
 
@@ -101,78 +267,163 @@ public class BladeCLI {
 		return lines.toArray(new String[0]);
 	}
 
-	public static String[] execute(String args) {
-		return execute(getBladeJar(getBladeJarVersion()), args);
-	}
+	private static String _getBladeJarBundleVersion(File bladeJar) {
+		BladeJarInfo bladeJarInfo = _readBladeJarInfo(bladeJar);
 
-	public static String[] executeWithLatestBlade(String args) {
-		return execute(getBladeJar(BLADE_LATEST), args);
+		if ((bladeJarInfo != null) && (bladeJarInfo._length == bladeJar.length())) {
+			return bladeJarInfo._version.toString();
+		}
+
+		String key = bladeJar.getAbsolutePath() + "@" + bladeJar.lastModified();
+
+		return _bladeJarBundleVersions.computeIfAbsent(
+			key,
+			path -> {
+				try (InputStream inputStream = Files.newInputStream(bladeJar.toPath())) {
+					return _getBladeVersion(inputStream);
+				}
+				catch (IOException ioe) {
+					return null;
+				}
+			});
 	}
 
-	public static File getBladeJar(String jarName) {
-		Properties properties = System.getProperties();
+	private static String _getBladeVersion(InputStream inputStream) {
+		try (ZipInputStream zipInput = new ZipInputStream(inputStream)) {
+			ZipEntry zipEntry = null;
 
-		File temp = new File(properties.getProperty("user.home"), ".liferay-intellij-plugin");
+			do {
+				zipEntry = zipInput.getNextEntry();
 
-		File bladeJar = new File(temp, jarName);
+				if (Objects.equals("META-INF/MANIFEST.MF", zipEntry.getName())) {
+					Manifest manifest = new Manifest(zipInput);
 
-		boolean needToCopy = true;
+					Attributes mainAttributes = manifest.getMainAttributes();
 
-		ClassLoader bladeClassLoader = BladeCLI.class.getClassLoader();
+					return mainAttributes.getValue("Bundle-Version");
+				}
+			}
+			while (zipEntry != null);
+		}
+		catch (Exception e) {
+		}
 
-		try (InputStream inputStream = bladeClassLoader.getResourceAsStream("/libs/" + jarName)) {
-			if (bladeJar.exists()) {
-				Version newBladeVersion = Version.parseVersion(_getBladeVersion(inputStream));
+		return null;
+	}
 
-				try (InputStream existedBladeInputStream = Files.newInputStream(bladeJar.toPath())) {
-					Version existedBladeVersion = Version.parseVersion(_getBladeVersion(existedBladeInputStream));
+	private static BladeJarInfo _getBundledBladeJarInfo(String jarName) {
+		return _bundledBladeJarInfos.computeIfAbsent(
+			jarName,
+			name -> {
+				ClassLoader bladeClassLoader = BladeCLI.class.getClassLoader();
 
-					if (newBladeVersion.compareTo(existedBladeVersion) <= 0) {
-						needToCopy = false;
+				try (InputStream inputStream = bladeClassLoader.getResourceAsStream("/libs/" + name)) {
+					if (inputStream == null) {
+						return null;
 					}
+
+					return _createBladeJarInfo(inputStream.readAllBytes());
 				}
-			}
-		}
-		catch (IOException ioe) {
+				catch (IOException ioe) {
+					return null;
+				}
+			});
+	}
+
+	private static String[] _getCatalogue(
+		File bladeJar, String catalogueName, boolean refresh, Supplier<String[]> catalogueSupplier) {
+
+		String bladeVersion = _getBladeJarBundleVersion(bladeJar);
+
+		if (bladeVersion == null) {
+			return catalogueSupplier.get();
 		}
 
-		try (InputStream inputStream = bladeClassLoader.getResourceAsStream("/libs/" + jarName)) {
-			if (needToCopy) {
-				bladeJar.delete();
+		Path cataloguePath = _catalogueDir.resolve(bladeVersion + "/" + catalogueName + ".txt");
+
+		String key = cataloguePath.toString();
+
+		String[] catalogue;
 
-				FileUtil.writeFile(bladeJar, inputStream);
+		if (!refresh) {
+			catalogue = _catalogues.get(key);
+
+			if (catalogue != null) {
+				return catalogue.clone();
 			}
 		}
-		catch (IOException ioe) {
-		}
 
-		return bladeJar;
-	}
+		// a slow "init --list" only blocks callers of the same catalogue, not
+		// other Blade commands
 
-	public static synchronized String getBladeJarVersion() {
-		ProjectManager projectManager = ProjectManager.getInstance();
+		Object catalogueLock = _catalogueLocks.computeIfAbsent(key, catalogueKey -> new Object());
 
-		com.intellij.openapi.project.Project workspaceProject = projectManager.getOpenProjects()[0];
+		synchronized (catalogueLock) {
+			if (!refresh) {
+				catalogue = _catalogues.get(key);
+
+				if (catalogue != null) {
+					return catalogue.clone();
+				}
+
+				try {
+					if (Files.exists(cataloguePath)) {
+						List<String> lines = Files.readAllLines(cataloguePath, StandardCharsets.UTF_8);
 
-		if (Objects.nonNull(workspaceProject)) {
-			if (LiferayWorkspaceSupport.isFlexibleLiferayWorkspace(workspaceProject)) {
-				_bladeJarName = BLADE_LATEST;
+						if (!lines.isEmpty()) {
+							catalogue = lines.toArray(new String[0]);
+
+							_catalogues.put(key, catalogue);
+
+							return catalogue.clone();
+						}
+					}
+				}
+				catch (IOException ioe) {
+				}
 			}
-			else {
-				_bladeJarName = BLADE_392;
+
+			catalogue = catalogueSupplier.get();
+
+			if (catalogue.length > 0) {
+				_catalogues.put(key, catalogue.clone());
+
+				try {
+					FileUtil.writeFileAtomically(
+						cataloguePath, String.join("\n", catalogue).getBytes(StandardCharsets.UTF_8));
+				}
+				catch (IOException ioe) {
+				}
 			}
+
+			return catalogue;
 		}
-		else {
-			_bladeJarName = BLADE_LATEST;
+	}
+
+	private static String[] _getWorkspaceProducts(boolean showAll, boolean refresh) {
+		File bladeJar = getBladeJar(BLADE_LATEST);
+
+		String catalogueName = showAll ? "workspace-products-all" : "workspace-products";
+
+		return _getCatalogue(bladeJar, catalogueName, refresh, () -> _listWorkspaceProducts(bladeJar, showAll));
+	}
+
+	private static boolean _isUpToDate(
+		File bladeJar, BladeJarInfo existingBladeJarInfo, BladeJarInfo bundledBladeJarInfo) {
+
+		if ((existingBladeJarInfo != null) && (existingBladeJarInfo._length == bladeJar.length()) &&
+			(bundledBladeJarInfo._version.compareTo(existingBladeJarInfo._version) <= 0)) {
+
+			return true;
 		}
 
-		return _bladeJarName;
+		return false;
 	}
 
-	public static synchronized String[] getProjectTemplates() {
+	private static String[] _listProjectTemplates(File bladeJar) {
 		List<String> templateNames = new ArrayList<>();
 
-		String[] executeResult = execute("create -l");
+		String[] executeResult = execute(bladeJar, "create -l");
 
 		for (String name : executeResult) {
 			String trimmedName = name.trim();
@@ -188,16 +439,16 @@ public class BladeCLI {
 		return templateNames.toArray(new String[0]);
 	}
 
-	public static synchronized String[] getWorkspaceProducts(boolean showAll) {
+	private static String[] _listWorkspaceProducts(File bladeJar, boolean showAll) {
 		List<String> workspaceProducts = new ArrayList<>();
 
 		String[] executeResult;
 
 		if (showAll) {
-			executeResult = executeWithLatestBlade("init --list --all");
+			executeResult = execute(bladeJar, "init --list --all");
 		}
 		else {
-			executeResult = executeWithLatestBlade("init --list");
+			executeResult = execute(bladeJar, "init --list");
 		}
 
 		for (String result : executeResult) {
@@ -211,29 +462,68 @@ public class BladeCLI {
 		return workspaceProducts.toArray(new String[0]);
 	}
 
-	private static String _getBladeVersion(InputStream inputStream) {
-		try (ZipInputStream zipInput = new ZipInputStream(inputStream)) {
-			ZipEntry zipEntry = null;
+	private static BladeJarInfo _readBladeJarInfo(File bladeJar) {
+		File bladeJarInfoFile = new File(bladeJar.getParentFile(), bladeJar.getName() + _BLADE_JAR_INFO_SUFFIX);
 
-			do {
-				zipEntry = zipInput.getNextEntry();
+		if (!bladeJarInfoFile.isFile()) {
+			return null;
+		}
 
-				if (Objects.equals("META-INF/MANIFEST.MF", zipEntry.getName())) {
-					Manifest manifest = new Manifest(zipInput);
+		Properties properties = new Properties();
 
-					Attributes mainAttributes = manifest.getMainAttributes();
+		try (InputStream inputStream = Files.newInputStream(bladeJarInfoFile.toPath())) {
+			properties.load(inputStream);
 
-					return mainAttributes.getValue("Bundle-Version");
-				}
-			}
-			while (zipEntry != null);
+			return new BladeJarInfo(
+				properties.getProperty("checksum"), Long.parseLong(properties.getProperty("length")),
+				Version.parseVersion(properties.getProperty("version")));
 		}
-		catch (Exception e) {
+		catch (IllegalArgumentException | IOException e) {
+			return null;
 		}
+	}
 
-		return null;
+	private static String _toHexString(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			sb.append(String.format("%02x", b));
+		}
+
+		return sb.toString();
 	}
 
-	private static String _bladeJarName = null;
+	private static void _writeBladeJarInfo(File bladeJar, BladeJarInfo bladeJarInfo) throws IOException {
+		File bladeJarInfoFile = new File(bladeJar.getParentFile(), bladeJar.getName() + _BLADE_JAR_INFO_SUFFIX);
+
+		String contents =
+			"checksum=" + bladeJarInfo._checksum + "\nlength=" + bladeJarInfo._length + "\nversion=" +
+				bladeJarInfo._version + "\n";
+
+		FileUtil.writeFileAtomically(bladeJarInfoFile.toPath(), contents.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	private static final String _BLADE_JAR_INFO_SUFFIX = ".info";
+
+	private static final Map<String, String> _bladeJarBundleVersions = new ConcurrentHashMap<>();
+	private static final Map<String, BladeJarInfo> _bundledBladeJarInfos = new ConcurrentHashMap<>();
+	private static final Path _catalogueDir = Paths.get(
+		System.getProperty("user.home"), ".liferay-intellij-plugin", "blade-catalogue");
+	private static final Map<String, Object> _catalogueLocks = new ConcurrentHashMap<>();
+	private static final Map<String, String[]> _catalogues = new ConcurrentHashMap<>();
+
+	private static class BladeJarInfo {
+
+		private BladeJarInfo(String checksum, long length, Version version) {
+			_checksum = checksum;
+			_length = length;
+			_version = version;
+		}
+
+		private final String _checksum;
+		private final long _length;
+		private final Version _version;
+
+	}
 
 }
\ No newline at end of file
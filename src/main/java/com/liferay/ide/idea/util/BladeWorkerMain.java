@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.Permission;
+
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Entry point of a long-lived Blade worker JVM. It runs outside of the IDE with
+ * only this class and the Blade jar on the classpath, so it must not reference
+ * any other plugin or IntelliJ class.
+ *
+ * On startup the worker writes a handshake line, which tells whether Blade's
+ * System.exit() calls can be trapped. Only a ready worker reads requests.
+ * Each request is a token line, an argument count line and one line per
+ * argument. The Blade output is streamed back to stdout and the request is
+ * terminated by a line holding the token followed by the exit status.
+ *
+ * @author agent
+ */
+public class BladeWorkerMain extends SecurityManager {
+
+	public static final String HANDSHAKE_READY = "blade-worker ready";
+
+	public static final String HANDSHAKE_UNSUPPORTED = "blade-worker unsupported";
+
+	public static void main(String[] args) throws Exception {
+		Method bladeMainMethod = _getBladeMainMethod(args[0]);
+
+		BladeWorkerMain bladeWorkerMain = new BladeWorkerMain();
+
+		PrintStream out = new PrintStream(System.out, true, "UTF-8");
+
+		try {
+			System.setSecurityManager(bladeWorkerMain);
+		}
+		catch (SecurityException | UnsupportedOperationException e) {
+
+			// without the security manager a System.exit() from Blade would end
+			// the worker in the middle of a command, so the IDE is told to fork a
+			// JVM per command instead
+
+			out.println(HANDSHAKE_UNSUPPORTED);
+			out.flush();
+
+			return;
+		}
+
+		out.println(HANDSHAKE_READY);
+		out.flush();
+
+		PrintStream bladeOut = new PrintStream(out, true, "UTF-8");
+
+		System.setOut(bladeOut);
+		System.setErr(bladeOut);
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+
+		String token;
+
+		while ((token = reader.readLine()) != null) {
+			String countLine = reader.readLine();
+
+			if (countLine == null) {
+				break;
+			}
+
+			String[] bladeArgs = new String[Integer.parseInt(countLine.trim())];
+
+			for (int i = 0; i < bladeArgs.length; i++) {
+				bladeArgs[i] = reader.readLine();
+			}
+
+			int status = bladeWorkerMain._run(bladeMainMethod, bladeArgs);
+
+			bladeOut.flush();
+
+			out.println(token + " " + status);
+			out.flush();
+		}
+	}
+
+	@Override
+	public void checkExit(int status) {
+		if (_running) {
+			_exitRequested = true;
+			_exitStatus = status;
+
+			throw new SecurityException("System.exit(" + status + ") is not allowed in the Blade worker");
+		}
+	}
+
+	@Override
+	public void checkPermission(Permission permission) {
+	}
+
+	@Override
+	public void checkPermission(Permission permission, Object context) {
+	}
+
+	private static Method _getBladeMainMethod(String bladeJarPath) throws Exception {
+		try (JarFile jarFile = new JarFile(bladeJarPath)) {
+			Manifest manifest = jarFile.getManifest();
+
+			String mainClassName = manifest.getMainAttributes().getValue("Main-Class");
+
+			Class<?> mainClass = Class.forName(mainClassName);
+
+			return mainClass.getMethod("main", String[].class);
+		}
+	}
+
+	private int _run(Method bladeMainMethod, String[] bladeArgs) {
+		_exitRequested = false;
+		_exitStatus = 0;
+		_running = true;
+
+		try {
+			bladeMainMethod.invoke(null, (Object)bladeArgs);
+		}
+		catch (InvocationTargetException ite) {
+			if (!_exitRequested) {
+				Throwable cause = ite.getCause();
+
+				cause.printStackTrace();
+
+				_exitStatus = 1;
+			}
+		}
+		catch (Exception e) {
+			e.printStackTrace();
+
+			_exitStatus = 1;
+		}
+		finally {
+			_running = false;
+		}
+
+		return _exitStatus;
+	}
+
+	private volatile boolean _exitRequested;
+	private volatile int _exitStatus;
+	private volatile boolean _running;
+
+}
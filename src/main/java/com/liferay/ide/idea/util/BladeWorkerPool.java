@@ -0,0 +1,327 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.types.Commandline;
+import org.apache.tools.ant.util.JavaEnvUtils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps one long-lived Blade JVM per Blade jar, so Blade commands do not pay
+ * the JVM startup and class loading cost every time. Workers that stay unused
+ * for a while are shut down.
+ *
+ * @author agent
+ */
+public class BladeWorkerPool implements Disposable {
+
+	public static BladeWorkerPool getInstance() {
+		return ServiceManager.getService(BladeWorkerPool.class);
+	}
+
+	public BladeWorkerPool() {
+		_evictionFuture = AppExecutorUtil.getAppScheduledExecutorService(
+		).scheduleWithFixedDelay(
+			this::_evictIdleWorkers, _IDLE_TIMEOUT, _IDLE_TIMEOUT, TimeUnit.MILLISECONDS
+		);
+	}
+
+	@Override
+	public void dispose() {
+		_evictionFuture.cancel(false);
+
+		List<BladeWorker> bladeWorkers = new ArrayList<>(_bladeWorkers.values());
+
+		_bladeWorkers.clear();
+
+		for (BladeWorker bladeWorker : bladeWorkers) {
+			bladeWorker.close();
+		}
+	}
+
+	/**
+	 * Runs the Blade command in the worker for the given jar. Returns null when
+	 * the worker could not be used, in which case the caller should fork a JVM.
+	 * Once a worker has read the command, null is never returned, so the
+	 * command cannot run twice.
+	 */
+	@Nullable
+	public String[] execute(@NotNull File bladeJar, @NotNull String args) {
+		if (_workerUnsupported) {
+			return null;
+		}
+
+		String[] arguments = Commandline.translateCommandline(args);
+
+		String key = bladeJar.getAbsolutePath();
+
+		BladeWorker bladeWorker;
+
+		synchronized (_bladeWorkers) {
+			bladeWorker = _bladeWorkers.get(key);
+
+			if ((bladeWorker != null) && !bladeWorker.isUsable(bladeJar)) {
+				_bladeWorkers.remove(key);
+
+				bladeWorker.close();
+
+				bladeWorker = null;
+			}
+
+			if (bladeWorker == null) {
+				try {
+					bladeWorker = new BladeWorker(bladeJar);
+				}
+				catch (IOException ioe) {
+					return null;
+				}
+
+				if (!bladeWorker.isReady()) {
+					_workerUnsupported = true;
+
+					bladeWorker.close();
+
+					return null;
+				}
+
+				_bladeWorkers.put(key, bladeWorker);
+			}
+		}
+
+		try {
+			return bladeWorker.execute(arguments);
+		}
+		catch (IOException ioe) {
+			_bladeWorkers.remove(key, bladeWorker);
+
+			bladeWorker.close();
+
+			return null;
+		}
+	}
+
+	private static synchronized File _getWorkerClassPath() throws IOException {
+		Path workerClassPath = Paths.get(System.getProperty("user.home"), ".liferay-intellij-plugin", "blade-worker");
+
+		String workerClassFileName = BladeWorkerMain.class.getName(
+		).replace(
+			'.', '/'
+		) + ".class";
+
+		ClassLoader classLoader = BladeWorkerMain.class.getClassLoader();
+
+		try (InputStream inputStream = classLoader.getResourceAsStream(workerClassFileName)) {
+			if (inputStream == null) {
+				throw new IOException("Unable to find " + workerClassFileName);
+			}
+
+			FileUtil.writeFileIfChanged(workerClassPath.resolve(workerClassFileName), inputStream.readAllBytes());
+		}
+
+		return workerClassPath.toFile();
+	}
+
+	private void _evictIdleWorkers() {
+		long now = System.currentTimeMillis();
+
+		synchronized (_bladeWorkers) {
+			_bladeWorkers.values(
+			).removeIf(
+				bladeWorker -> {
+					if (bladeWorker.isIdleSince(now - _IDLE_TIMEOUT)) {
+						bladeWorker.close();
+
+						return true;
+					}
+
+					return false;
+				}
+			);
+		}
+	}
+
+	private static final long _IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+	private final Map<String, BladeWorker> _bladeWorkers = new ConcurrentHashMap<>();
+	private final ScheduledFuture<?> _evictionFuture;
+	private volatile boolean _workerUnsupported;
+
+	private static class BladeWorker {
+
+		public void close() {
+			_process.destroy();
+		}
+
+		/**
+		 * @throws IOException if the command could not be handed to the worker,
+		 *         in which case it has not run
+		 */
+		public synchronized String[] execute(String[] arguments) throws IOException {
+			_busy = true;
+
+			try {
+				String token = UUID.randomUUID().toString();
+
+				_writer.write(token);
+				_writer.newLine();
+				_writer.write(String.valueOf(arguments.length));
+				_writer.newLine();
+
+				for (String argument : arguments) {
+					_writer.write(argument);
+					_writer.newLine();
+				}
+
+				_writer.flush();
+
+				try {
+					return _readResult(token);
+				}
+				catch (IOException ioe) {
+					close();
+
+					throw new BuildException("Blade worker failed while running the command", ioe);
+				}
+			}
+			finally {
+				_busy = false;
+				_lastUsed = System.currentTimeMillis();
+			}
+		}
+
+		public boolean isIdleSince(long time) {
+			if (!_busy && (_lastUsed < time)) {
+				return true;
+			}
+
+			return false;
+		}
+
+		public boolean isReady() {
+			return _ready;
+		}
+
+		public boolean isUsable(File bladeJar) {
+			if (_process.isAlive() && (_bladeJarLastModified == bladeJar.lastModified())) {
+				return true;
+			}
+
+			return false;
+		}
+
+		private BladeWorker(File bladeJar) throws IOException {
+			_bladeJarLastModified = bladeJar.lastModified();
+
+			ProcessBuilder processBuilder = new ProcessBuilder(
+				JavaEnvUtils.getJreExecutable("java"), "-cp",
+				_getWorkerClassPath().getAbsolutePath() + File.pathSeparator + bladeJar.getAbsolutePath(),
+				BladeWorkerMain.class.getName(), bladeJar.getAbsolutePath());
+
+			processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+
+			_process = processBuilder.start();
+
+			_reader = new BufferedReader(new InputStreamReader(_process.getInputStream(), StandardCharsets.UTF_8));
+			_writer = new BufferedWriter(new OutputStreamWriter(_process.getOutputStream(), StandardCharsets.UTF_8));
+
+			_ready = _readHandshake();
+		}
+
+		private boolean _readHandshake() throws IOException {
+			String line;
+
+			while ((line = _reader.readLine()) != null) {
+				if (BladeWorkerMain.HANDSHAKE_READY.equals(line)) {
+					return true;
+				}
+
+				if (BladeWorkerMain.HANDSHAKE_UNSUPPORTED.equals(line)) {
+					return false;
+				}
+			}
+
+			close();
+
+			throw new IOException("Blade worker exited before the handshake");
+		}
+
+		private String[] _readResult(String token) throws IOException {
+			List<String> lines = new ArrayList<>();
+
+			String line;
+
+			while ((line = _reader.readLine()) != null) {
+				int index = line.indexOf(token);
+
+				if (index == -1) {
+					lines.add(line);
+
+					continue;
+				}
+
+				if (index > 0) {
+					lines.add(line.substring(0, index));
+				}
+
+				String status = line.substring(index + token.length());
+
+				if (!"0".equals(status.trim())) {
+					throw new BuildException("Java returned: " + status.trim());
+				}
+
+				return lines.toArray(new String[0]);
+			}
+
+			throw new IOException("Blade worker exited unexpectedly");
+		}
+
+		private final long _bladeJarLastModified;
+		private volatile boolean _busy;
+		private volatile long _lastUsed = System.currentTimeMillis();
+		private final Process _process;
+		private final BufferedReader _reader;
+		private final boolean _ready;
+		private final BufferedWriter _writer;
+
+	}
+
+}
@@ -29,8 +29,16 @@ import java.io.UnsupportedEncodingException;
 
 import java.net.URL;
 
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Arrays;
 
 /**
  * @author Terry Jia
@@ -89,6 +97,17 @@ public class FileUtil {
 		return false;
 	}
 
+	public static byte[] getChecksum(byte[] contents) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+			return messageDigest.digest(contents);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
 	public static File[] getDirectories(File directory) {
 		return directory.listFiles(file -> file.isDirectory());
 	}
@@ -234,4 +253,43 @@ public class FileUtil {
 		}
 	}
 
+	public static void writeFileAtomically(Path path, byte[] contents) throws IOException {
+		Path parentPath = path.getParent();
+
+		Files.createDirectories(parentPath);
+
+		Path fileNamePath = path.getFileName();
+
+		Path tempPath = Files.createTempFile(parentPath, fileNamePath.toString(), ".tmp");
+
+		try {
+			Files.write(tempPath, contents);
+
+			try {
+				Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException amnse) {
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	/**
+	 * @return true if the file was written, false if it already had the same content
+	 */
+	public static boolean writeFileIfChanged(Path path, byte[] contents) throws IOException {
+		if (Files.isRegularFile(path) && (Files.size(path) == contents.length) &&
+			Arrays.equals(getChecksum(Files.readAllBytes(path)), getChecksum(contents))) {
+
+			return false;
+		}
+
+		writeFileAtomically(path, contents);
+
+		return true;
+	}
+
 }
\ No newline at end of file
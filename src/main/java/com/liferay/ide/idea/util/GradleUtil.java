@@ -14,10 +14,6 @@
 
 package com.liferay.ide.idea.util;
 
-import aQute.bnd.version.Version;
-
-import com.google.common.collect.ListMultimap;
-
 import com.intellij.execution.process.ProcessHandler;
 import com.intellij.execution.ui.RunContentDescriptor;
 import com.intellij.execution.ui.RunContentManager;
@@ -34,17 +30,22 @@ import com.intellij.openapi.module.ModifiableModuleModel;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.ArrayUtil;
 import com.intellij.util.containers.ContainerUtil;
 
+import com.liferay.ide.idea.core.LiferayGradleConnectionManager;
+import com.liferay.ide.idea.core.LiferayWorkspacePluginVersionService;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -54,17 +55,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.jar.Attributes;
-import java.util.jar.Manifest;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-
-import org.apache.commons.io.FileUtils;
 
-import org.gradle.tooling.GradleConnector;
-import org.gradle.tooling.ModelBuilder;
-import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.model.DomainObjectSet;
 import org.gradle.tooling.model.GradleProject;
 
@@ -164,57 +155,24 @@ public class GradleUtil {
 		return getNestedGradleProject(workspaceGradleProject, module);
 	}
 
-	public static <T> T getModel(Class<T> modelClass, VirtualFile virtualFile) throws Exception {
-		T retval = null;
-
-		Path cachePath = Paths.get(System.getProperty("user.home", "") + "/.liferay-ide");
-
-		try {
-			File depsDir = new File(cachePath.toFile(), "deps");
-
-			depsDir.mkdirs();
+	public static <T> T getModel(Class<T> modelClass, Project project) throws Exception {
+		VirtualFile projectDir = ProjectUtil.guessProjectDir(project);
 
-			String path = depsDir.getAbsolutePath();
-
-			path = path.replaceAll("\\\\", "/");
-
-			_extractJar(depsDir, "gradle-tooling");
-
-			ClassLoader bladeClassLoader = GradleUtil.class.getClassLoader();
-
-			File scriptFile = new File(cachePath.toFile(), "init.gradle");
-
-			try (InputStream input = bladeClassLoader.getResourceAsStream("com/liferay/ide/idea/util/init.gradle")) {
-				String initScriptTemplate = CoreUtil.readStreamToString(input);
-
-				String initScriptContents = initScriptTemplate.replaceFirst("%deps%", path);
-
-				if (FileUtil.notExists(scriptFile)) {
-					scriptFile.createNewFile();
-				}
-
-				FileUtils.writeByteArrayToFile(scriptFile, initScriptContents.getBytes());
-			}
-
-			GradleConnector gradleConnector = GradleConnector.newConnector();
-
-			Path virtualFilePath = Paths.get(virtualFile.getPath());
-
-			gradleConnector.forProjectDirectory(virtualFilePath.toFile());
+		if (projectDir == null) {
+			return null;
+		}
 
-			ProjectConnection connection = gradleConnector.connect();
+		File initScriptFile = _getInitScriptFile();
 
-			ModelBuilder<T> model = connection.model(modelClass);
+		LiferayGradleConnectionManager gradleConnectionManager = LiferayGradleConnectionManager.getInstance(project);
 
-			model.withArguments("--init-script", scriptFile.getAbsolutePath(), "--stacktrace");
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("gradle.getModel." + modelClass.getSimpleName());
 
-			retval = model.get();
-		}
-		catch (Exception e) {
-			throw e;
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			return gradleConnectionManager.getModel(
+				VfsUtilCore.virtualToIoFile(projectDir), modelClass, null, "--init-script",
+				initScriptFile.getAbsolutePath(), "--stacktrace");
 		}
-
-		return retval;
 	}
 
 	public static GradleProject getNestedGradleProject(GradleProject gradleProject, Module module) {
@@ -272,87 +230,28 @@ public class GradleUtil {
 	}
 
 	public static List<LibraryData> getTargetPlatformArtifacts(Project project) {
-		ProjectDataManager projectDataManager = ProjectDataManager.getInstance();
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("gradle.getTargetPlatformArtifacts");
 
-		Collection<ExternalProjectInfo> externalProjectInfos = projectDataManager.getExternalProjectsData(
-			project, GradleConstants.SYSTEM_ID);
-
-		for (ExternalProjectInfo externalProjectInfo : externalProjectInfos) {
-			DataNode<ProjectData> projectData = externalProjectInfo.getExternalProjectStructure();
-
-			if (projectData == null) {
-				continue;
-			}
-
-			Collection<DataNode<?>> dataNodes = projectData.getChildren();
-
-			List<LibraryData> libraryData = new ArrayList<>(dataNodes.size());
-
-			for (DataNode<?> child : dataNodes) {
-				if (!ProjectKeys.LIBRARY.equals(child.getKey())) {
-					continue;
-				}
-
-				libraryData.add((LibraryData)child.getData());
-			}
-
-			libraryData.sort(
-				Comparator.comparing(LibraryData::getArtifactId, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)));
-
-			return libraryData;
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			return _getTargetPlatformArtifacts(project);
 		}
-
-		return Collections.emptyList();
 	}
 
 	public static GradleProject getWorkspaceGradleProject(Project project) {
-		Path pathToGradleProject = Paths.get(project.getBasePath());
+		LiferayGradleConnectionManager gradleConnectionManager = LiferayGradleConnectionManager.getInstance(project);
 
-		GradleConnector gradleConnector = GradleConnector.newConnector(
-		).forProjectDirectory(
-			pathToGradleProject.toFile()
-		);
-
-		try (ProjectConnection projectConnection = gradleConnector.connect()) {
-			ModelBuilder<GradleProject> modelBuilder = projectConnection.model(GradleProject.class);
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("gradle.getWorkspaceGradleProject");
 
-			return modelBuilder.get();
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+			return gradleConnectionManager.getModel(new File(project.getBasePath()), GradleProject.class, null);
 		}
 	}
 
 	public static String getWorkspacePluginVersion(Project project) {
-		File settingsGradleFile = new File(project.getBasePath(), "settings.gradle");
-
-		GradleDependencyUpdater gradleDependencyUpdater = null;
-
-		try {
-			gradleDependencyUpdater = new GradleDependencyUpdater(settingsGradleFile);
-		}
-		catch (IOException ioe) {
-		}
+		LiferayWorkspacePluginVersionService workspacePluginVersionService =
+			LiferayWorkspacePluginVersionService.getInstance(project);
 
-		return Optional.ofNullable(
-			gradleDependencyUpdater
-		).flatMap(
-			updater -> {
-				ListMultimap<String, GradleDependency> dependencies = updater.getAllDependencies();
-
-				List<GradleDependency> artifacts = new ArrayList<>(dependencies.values());
-
-				return artifacts.stream(
-				).filter(
-					artifact -> Objects.equals("com.liferay", artifact.getGroup())
-				).filter(
-					artifact -> Objects.equals("com.liferay.gradle.plugins.workspace", artifact.getName())
-				).filter(
-					artifact -> !CoreUtil.isNullOrEmpty(artifact.getVersion())
-				).map(
-					GradleDependency::getVersion
-				).findFirst();
-			}
-		).orElseGet(
-			() -> "2.2.4"
-		);
+		return workspacePluginVersionService.getWorkspacePluginVersion();
 	}
 
 	public static boolean isWatchableProject(Module module) {
@@ -394,59 +293,119 @@ public class GradleUtil {
 		).isPresent();
 	}
 
-	private static void _extractJar(File depsDir, String jarName) throws IOException {
+	private static File _extractJar(File depsDir, String jarName) throws IOException {
 		String fullFileName = jarName + ".jar";
 
-		File toolingJar = new File(depsDir, fullFileName);
-
 		ClassLoader classLoader = GradleUtil.class.getClassLoader();
 
-		boolean needToCopy = true;
-
 		try (InputStream inputStream = classLoader.getResourceAsStream("/libs/" + fullFileName)) {
-			if (toolingJar.exists()) {
-				Version urlJarVersion = Version.parseVersion(_getJarVersion(inputStream));
+			if (inputStream == null) {
+				return null;
+			}
 
-				try (InputStream existedJarInputStream = Files.newInputStream(toolingJar.toPath())) {
-					Version existedJarVersion = Version.parseVersion(_getJarVersion(existedJarInputStream));
+			File toolingJar = new File(depsDir, fullFileName);
 
-					if (urlJarVersion.compareTo(existedJarVersion) <= 0) {
-						needToCopy = false;
-					}
-				}
-			}
+			FileUtil.writeFileIfChanged(toolingJar.toPath(), inputStream.readAllBytes());
 
-			if (needToCopy) {
-				toolingJar.delete();
+			return toolingJar;
+		}
+	}
 
-				FileUtil.writeFile(toolingJar, inputStream);
-			}
+	/**
+	 * Extracts the tooling jar and writes the init script once per plugin
+	 * load, and again only if either file was deleted or modified since. The
+	 * files on disk are only touched when their content differs, so Gradle can
+	 * keep its compiled init script cached.
+	 */
+	private static synchronized File _getInitScriptFile() throws IOException {
+		if ((_initScriptFile != null) && _isUnchanged(_initScriptFile, _initScriptFileLastModified) &&
+			((_toolingJar == null) || _isUnchanged(_toolingJar, _toolingJarLastModified))) {
+
+			return _initScriptFile;
 		}
-		catch (IOException ioe) {
+
+		Path cachePath = Paths.get(System.getProperty("user.home", ""), ".liferay-ide");
+
+		File depsDir = new File(cachePath.toFile(), "deps");
+
+		depsDir.mkdirs();
+
+		File toolingJar = _extractJar(depsDir, "gradle-tooling");
+
+		String path = depsDir.getAbsolutePath();
+
+		path = path.replaceAll("\\\\", "/");
+
+		ClassLoader classLoader = GradleUtil.class.getClassLoader();
+
+		String initScriptContents;
+
+		try (InputStream input = classLoader.getResourceAsStream("com/liferay/ide/idea/util/init.gradle")) {
+			String initScriptTemplate = CoreUtil.readStreamToString(input);
+
+			initScriptContents = initScriptTemplate.replace("%deps%", path);
+		}
+
+		File initScriptFile = new File(cachePath.toFile(), "init.gradle");
+
+		FileUtil.writeFileIfChanged(initScriptFile.toPath(), initScriptContents.getBytes(StandardCharsets.UTF_8));
+
+		_initScriptFile = initScriptFile;
+		_initScriptFileLastModified = initScriptFile.lastModified();
+		_toolingJar = toolingJar;
+
+		if (toolingJar != null) {
+			_toolingJarLastModified = toolingJar.lastModified();
 		}
+
+		return initScriptFile;
 	}
 
-	private static String _getJarVersion(InputStream inputStream) {
-		try (ZipInputStream zipInput = new ZipInputStream(inputStream)) {
-			ZipEntry zipEntry = null;
+	private static List<LibraryData> _getTargetPlatformArtifacts(Project project) {
+		ProjectDataManager projectDataManager = ProjectDataManager.getInstance();
 
-			do {
-				zipEntry = zipInput.getNextEntry();
+		Collection<ExternalProjectInfo> externalProjectInfos = projectDataManager.getExternalProjectsData(
+			project, GradleConstants.SYSTEM_ID);
 
-				if (Objects.equals("META-INF/MANIFEST.MF", zipEntry.getName())) {
-					Manifest manifest = new Manifest(zipInput);
+		for (ExternalProjectInfo externalProjectInfo : externalProjectInfos) {
+			DataNode<ProjectData> projectData = externalProjectInfo.getExternalProjectStructure();
 
-					Attributes mainAttributes = manifest.getMainAttributes();
+			if (projectData == null) {
+				continue;
+			}
+
+			Collection<DataNode<?>> dataNodes = projectData.getChildren();
 
-					return mainAttributes.getValue("Manifest-Version");
+			List<LibraryData> libraryData = new ArrayList<>(dataNodes.size());
+
+			for (DataNode<?> child : dataNodes) {
+				if (!ProjectKeys.LIBRARY.equals(child.getKey())) {
+					continue;
 				}
+
+				libraryData.add((LibraryData)child.getData());
 			}
-			while (zipEntry != null);
+
+			libraryData.sort(
+				Comparator.comparing(LibraryData::getArtifactId, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)));
+
+			return libraryData;
 		}
-		catch (Exception e) {
+
+		return Collections.emptyList();
+	}
+
+	private static boolean _isUnchanged(File file, long lastModified) {
+		if (file.isFile() && (file.lastModified() == lastModified)) {
+			return true;
 		}
 
-		return null;
+		return false;
 	}
 
+	private static File _initScriptFile;
+	private static long _initScriptFileLastModified;
+	private static File _toolingJar;
+	private static long _toolingJarLastModified;
+
 }
\ No newline at end of file
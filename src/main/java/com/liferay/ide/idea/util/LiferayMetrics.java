@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide counters, timers and histograms for the slow paths of the
+ * plugin. Recording is lock free so it can stay enabled in hot paths such as
+ * reference contributors.
+ *
+ * @author agent
+ */
+public class LiferayMetrics {
+
+	public static Counter counter(String name) {
+		return _counters.computeIfAbsent(name, key -> new Counter());
+	}
+
+	public static Histogram histogram(String name) {
+		return _histograms.computeIfAbsent(name, key -> new Histogram());
+	}
+
+	public static Timer timer(String name) {
+		return _timers.computeIfAbsent(name, key -> new Timer());
+	}
+
+	public static String toJson() {
+		StringWriter stringWriter = new StringWriter();
+
+		try (JsonWriter jsonWriter = new JsonWriter(stringWriter)) {
+			jsonWriter.setIndent("  ");
+
+			jsonWriter.beginObject();
+
+			jsonWriter.name("timestamp");
+			jsonWriter.value(System.currentTimeMillis());
+
+			jsonWriter.name("counters");
+			jsonWriter.beginObject();
+
+			for (Map.Entry<String, Counter> entry : new TreeMap<>(_counters).entrySet()) {
+				Counter counter = entry.getValue();
+
+				jsonWriter.name(entry.getKey());
+				jsonWriter.value(counter.getCount());
+			}
+
+			jsonWriter.endObject();
+
+			jsonWriter.name("histograms");
+			jsonWriter.beginObject();
+
+			for (Map.Entry<String, Histogram> entry : new TreeMap<>(_histograms).entrySet()) {
+				jsonWriter.name(entry.getKey());
+
+				Histogram histogram = entry.getValue();
+
+				histogram.write(jsonWriter, 1);
+			}
+
+			jsonWriter.endObject();
+
+			jsonWriter.name("timers");
+			jsonWriter.beginObject();
+
+			for (Map.Entry<String, Timer> entry : new TreeMap<>(_timers).entrySet()) {
+				jsonWriter.name(entry.getKey());
+
+				Timer timer = entry.getValue();
+
+				timer._histogram.write(jsonWriter, TimeUnit.MILLISECONDS.toNanos(1));
+			}
+
+			jsonWriter.endObject();
+
+			jsonWriter.endObject();
+		}
+		catch (IOException ioe) {
+			throw new IllegalStateException(ioe);
+		}
+
+		return stringWriter.toString();
+	}
+
+	public static class Counter {
+
+		public long getCount() {
+			return _count.sum();
+		}
+
+		public void increment() {
+			_count.increment();
+		}
+
+		private Counter() {
+		}
+
+		private final LongAdder _count = new LongAdder();
+
+	}
+
+	/**
+	 * Keeps the count, sum, min and max of the recorded values and a
+	 * power-of-two bucket distribution from which percentiles are estimated.
+	 */
+	public static class Histogram {
+
+		public long getCount() {
+			return _count.sum();
+		}
+
+		public long getMax() {
+			return _max.get();
+		}
+
+		public long getSum() {
+			return _sum.sum();
+		}
+
+		public long getValueAtPercentile(double percentile) {
+			long count = getCount();
+
+			if (count == 0) {
+				return 0;
+			}
+
+			long threshold = (long)Math.ceil(count * percentile / 100);
+			long seen = 0;
+
+			for (int i = 0; i < _buckets.length; i++) {
+				seen += _buckets[i].sum();
+
+				if (seen >= threshold) {
+					return Math.min((i == 0) ? 0 : (1L << i) - 1, getMax());
+				}
+			}
+
+			return getMax();
+		}
+
+		public void update(long value) {
+			if (value < 0) {
+				value = 0;
+			}
+
+			_buckets[64 - Long.numberOfLeadingZeros(value)].increment();
+			_count.increment();
+			_sum.add(value);
+
+			_max.accumulateAndGet(value, Math::max);
+			_min.accumulateAndGet(value, Math::min);
+		}
+
+		private Histogram() {
+			for (int i = 0; i < _buckets.length; i++) {
+				_buckets[i] = new LongAdder();
+			}
+		}
+
+		private void write(JsonWriter jsonWriter, long unit) throws IOException {
+			long count = getCount();
+
+			jsonWriter.beginObject();
+
+			jsonWriter.name("count");
+			jsonWriter.value(count);
+
+			if (count > 0) {
+				jsonWriter.name("min");
+				jsonWriter.value((double)_min.get() / unit);
+				jsonWriter.name("max");
+				jsonWriter.value((double)getMax() / unit);
+				jsonWriter.name("mean");
+				jsonWriter.value((double)getSum() / count / unit);
+				jsonWriter.name("p50");
+				jsonWriter.value((double)getValueAtPercentile(50) / unit);
+				jsonWriter.name("p95");
+				jsonWriter.value((double)getValueAtPercentile(95) / unit);
+				jsonWriter.name("p99");
+				jsonWriter.value((double)getValueAtPercentile(99) / unit);
+				jsonWriter.name("total");
+				jsonWriter.value((double)getSum() / unit);
+			}
+
+			jsonWriter.endObject();
+		}
+
+		private final LongAdder[] _buckets = new LongAdder[65];
+		private final LongAdder _count = new LongAdder();
+		private final AtomicLong _max = new AtomicLong(Long.MIN_VALUE);
+		private final AtomicLong _min = new AtomicLong(Long.MAX_VALUE);
+		private final LongAdder _sum = new LongAdder();
+
+	}
+
+	/**
+	 * Records durations in nanoseconds. Use it with try-with-resources:
+	 * <pre>
+	 * try (LiferayMetrics.Timer.Sample sample = LiferayMetrics.timer("name").start()) {
+	 *     ...
+	 * }
+	 * </pre>
+	 */
+	public static class Timer {
+
+		public Histogram getHistogram() {
+			return _histogram;
+		}
+
+		public Sample start() {
+			return new Sample(this);
+		}
+
+		public void update(long duration, TimeUnit timeUnit) {
+			_histogram.update(timeUnit.toNanos(duration));
+		}
+
+		public static class Sample implements AutoCloseable {
+
+			@Override
+			public void close() {
+				_timer._histogram.update(System.nanoTime() - _start);
+			}
+
+			private Sample(Timer timer) {
+				_timer = timer;
+			}
+
+			private final long _start = System.nanoTime();
+			private final Timer _timer;
+
+		}
+
+		private Timer() {
+		}
+
+		private final Histogram _histogram = new Histogram();
+
+	}
+
+	private static final Map<String, Counter> _counters = new ConcurrentHashMap<>();
+	private static final Map<String, Histogram> _histograms = new ConcurrentHashMap<>();
+	private static final Map<String, Timer> _timers = new ConcurrentHashMap<>();
+
+}
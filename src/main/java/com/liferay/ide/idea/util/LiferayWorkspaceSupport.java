@@ -14,10 +14,6 @@
 
 package com.liferay.ide.idea.util;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-
 import com.intellij.openapi.externalSystem.service.notification.ExternalSystemNotificationManager;
 import com.intellij.openapi.externalSystem.service.notification.NotificationCategory;
 import com.intellij.openapi.externalSystem.service.notification.NotificationData;
@@ -27,24 +23,23 @@ import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 
 import com.liferay.ide.idea.core.LiferayCore;
+import com.liferay.ide.idea.core.LiferayMavenWorkspaceProvider;
+import com.liferay.ide.idea.core.LiferayProductInfoService;
 import com.liferay.ide.idea.core.ProductInfo;
 import com.liferay.ide.idea.core.WorkspaceConstants;
 import com.liferay.ide.idea.core.WorkspaceProvider;
 
 import java.io.File;
+import java.io.IOException;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jetbrains.idea.maven.model.MavenPlugin;
-import org.jetbrains.idea.maven.project.MavenProject;
-import org.jetbrains.idea.maven.project.MavenProjectsManager;
 import org.jetbrains.plugins.gradle.util.GradleConstants;
 
 /**
@@ -55,13 +50,10 @@ import org.jetbrains.plugins.gradle.util.GradleConstants;
 public interface LiferayWorkspaceSupport {
 
 	public static Map<String, ProductInfo> getProductInfos(Project project) {
-		try (JsonReader jsonReader = new JsonReader(Files.newBufferedReader(_workspaceCacheFile.toPath()))) {
-			Gson gson = new Gson();
-
-			TypeToken<Map<String, ProductInfo>> typeToken = new TypeToken<Map<String, ProductInfo>>() {
-			};
+		try {
+			LiferayProductInfoService productInfoService = LiferayProductInfoService.getInstance();
 
-			return gson.fromJson(jsonReader, typeToken.getType());
+			return productInfoService.getProductInfos();
 		}
 		catch (Exception e) {
 			NotificationData notificationData = new NotificationData(
@@ -121,11 +113,14 @@ public interface LiferayWorkspaceSupport {
 			return false;
 		}
 
-		String settingsContent = FileUtil.readContents(settingsGradle, true);
-
-		Matcher matcher = PATTERN_WORKSPACE_PLUGIN.matcher(settingsContent);
+		try {
+			byte[] settingsContent = Files.readAllBytes(settingsGradle.toPath());
 
-		return matcher.matches();
+			return isWorkspacePluginApplied(new String(settingsContent, StandardCharsets.UTF_8));
+		}
+		catch (IOException ioe) {
+			return false;
+		}
 	}
 
 	public static boolean isValidGradleWorkspaceProject(@NotNull Project project) {
@@ -137,42 +132,65 @@ public interface LiferayWorkspaceSupport {
 			return false;
 		}
 
-		try {
-			MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(project);
+		WorkspaceProvider workspaceProvider = LiferayCore.getWorkspaceProvider(project);
 
-			if (!mavenProjectsManager.isMavenizedProject()) {
-				return false;
-			}
+		if (workspaceProvider instanceof LiferayMavenWorkspaceProvider) {
+			return true;
+		}
 
-			VirtualFile workspaceVirtualFile = getWorkspaceVirtualFile(project);
+		return false;
+	}
 
-			if (workspaceVirtualFile == null) {
-				return false;
-			}
+	public static boolean isValidWorkspaceLocation(Project project) {
+		if ((project != null) && (isValidGradleWorkspaceProject(project) || isValidMavenWorkspaceProject(project))) {
+			return true;
+		}
 
-			MavenProject mavenWorkspaceProject = mavenProjectsManager.findContainingProject(workspaceVirtualFile);
+		return false;
+	}
 
-			if (mavenWorkspaceProject == null) {
-				return false;
-			}
+	/**
+	 * Checks for "apply", "plugin", ":" and a quoted com.liferay.workspace, in
+	 * that order, with a single forward scan of the settings content.
+	 */
+	public static boolean isWorkspacePluginApplied(@Nullable String settingsContent) {
+		if (settingsContent == null) {
+			return false;
+		}
 
-			MavenPlugin liferayWorkspacePlugin = mavenWorkspaceProject.findPlugin(
-				"com.liferay", "com.liferay.portal.tools.bundle.support");
+		int index = settingsContent.indexOf("apply");
 
-			if (liferayWorkspacePlugin != null) {
-				return true;
-			}
+		if (index == -1) {
+			return false;
 		}
-		catch (Exception e) {
+
+		index = settingsContent.indexOf("plugin", index + 5);
+
+		if (index == -1) {
 			return false;
 		}
 
-		return false;
-	}
+		index = settingsContent.indexOf(':', index + 6);
 
-	public static boolean isValidWorkspaceLocation(Project project) {
-		if ((project != null) && (isValidGradleWorkspaceProject(project) || isValidMavenWorkspaceProject(project))) {
-			return true;
+		if (index == -1) {
+			return false;
+		}
+
+		String pluginId = "com.liferay.workspace";
+
+		while ((index = settingsContent.indexOf(pluginId, index + 1)) != -1) {
+			int end = index + pluginId.length();
+
+			if (end == settingsContent.length()) {
+				return false;
+			}
+
+			char previous = settingsContent.charAt(index - 1);
+			char next = settingsContent.charAt(end);
+
+			if (((previous == '"') || (previous == '\'')) && ((next == '"') || (next == '\''))) {
+				return true;
+			}
 		}
 
 		return false;
@@ -289,9 +307,6 @@ public interface LiferayWorkspaceSupport {
 
 	public final String GRADLE_PROPERTIES_FILE_NAME = "gradle.properties";
 
-	public final Pattern PATTERN_WORKSPACE_PLUGIN = Pattern.compile(
-		".*apply.*plugin.*:.*[\'\"]com\\.liferay\\.workspace[\'\"].*", Pattern.MULTILINE | Pattern.DOTALL);
-
 	public final String SETTINGS_GRADLE_FILE_NAME = "settings.gradle";
 
 	public final File _workspaceCacheFile = new File(System.getProperty("user.home"), DEFAULT_WORKSPACE_CACHE_FILE);
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.file.Files;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Maps project template names to the Liferay-Versions range declared by the
+ * template jars nested in a Blade jar. The index is persisted next to the
+ * Blade jar and keyed by its checksum, so the nested jars are only read once
+ * per Blade version.
+ *
+ * @author agent
+ */
+public class ProjectTemplateVersionRangeIndex {
+
+	/**
+	 * @return the Liferay-Versions range of each template, keyed by the dotted
+	 *         template name, e.g. "npm.react.portlet"
+	 */
+	public static Map<String, String> getVersionRanges(File bladeJar) {
+		String checksum = BladeCLI.getBladeJarChecksum(bladeJar);
+
+		if (checksum == null) {
+			return _buildVersionRanges(bladeJar);
+		}
+
+		return _versionRanges.computeIfAbsent(
+			checksum,
+			key -> {
+				File indexFile = new File(bladeJar.getParentFile(), bladeJar.getName() + _INDEX_FILE_SUFFIX);
+
+				Map<String, String> versionRanges = _readIndex(indexFile, checksum);
+
+				if (versionRanges == null) {
+					versionRanges = _buildVersionRanges(bladeJar);
+
+					if (!versionRanges.isEmpty()) {
+						_writeIndex(indexFile, checksum, versionRanges);
+					}
+				}
+
+				return versionRanges;
+			});
+	}
+
+	protected static String readVersionRange(InputStream nestedJarInputStream) throws IOException {
+		ZipInputStream zipInputStream = new ZipInputStream(nestedJarInputStream);
+
+		ZipEntry zipEntry;
+
+		while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+			if (JarFile.MANIFEST_NAME.equals(zipEntry.getName())) {
+				Manifest manifest = new Manifest(zipInputStream);
+
+				Attributes mainAttributes = manifest.getMainAttributes();
+
+				return mainAttributes.getValue(_LIFERAY_VERSIONS_HEADER);
+			}
+		}
+
+		return null;
+	}
+
+	private static Map<String, String> _buildVersionRanges(File bladeJar) {
+		if (!bladeJar.isFile()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, String> versionRanges = new TreeMap<>();
+
+		try (ZipFile zipFile = new ZipFile(bladeJar)) {
+			zipFile.stream(
+			).filter(
+				entry -> {
+					String entryName = entry.getName();
+
+					return entryName.endsWith(".jar") && entryName.startsWith(_PROJECT_TEMPLATES_PREFIX) &&
+						(entryName.indexOf("-") > _PROJECT_TEMPLATES_PREFIX.length());
+				}
+			).forEach(
+				entry -> {
+					String entryName = entry.getName();
+
+					try (InputStream inputStream = zipFile.getInputStream(entry)) {
+						String versionRange = readVersionRange(inputStream);
+
+						if (versionRange != null) {
+							String projectTemplateName = entryName.substring(
+								_PROJECT_TEMPLATES_PREFIX.length(), entryName.indexOf("-"));
+
+							versionRanges.put(projectTemplateName, versionRange.trim());
+						}
+					}
+					catch (IOException ioe) {
+					}
+				}
+			);
+		}
+		catch (IOException ioe) {
+		}
+
+		return Collections.unmodifiableMap(versionRanges);
+	}
+
+	private static Map<String, String> _readIndex(File indexFile, String checksum) {
+		if (!indexFile.isFile()) {
+			return null;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+			properties.load(inputStream);
+		}
+		catch (IOException ioe) {
+			return null;
+		}
+
+		if (!checksum.equals(properties.remove(_CHECKSUM_KEY))) {
+			return null;
+		}
+
+		Map<String, String> versionRanges = new TreeMap<>();
+
+		for (String projectTemplateName : properties.stringPropertyNames()) {
+			versionRanges.put(projectTemplateName, properties.getProperty(projectTemplateName));
+		}
+
+		return Collections.unmodifiableMap(versionRanges);
+	}
+
+	private static void _writeIndex(File indexFile, String checksum, Map<String, String> versionRanges) {
+		Properties properties = new Properties();
+
+		properties.putAll(versionRanges);
+
+		properties.setProperty(_CHECKSUM_KEY, checksum);
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		try {
+			properties.store(byteArrayOutputStream, null);
+
+			FileUtil.writeFileAtomically(indexFile.toPath(), byteArrayOutputStream.toByteArray());
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	private static final String _CHECKSUM_KEY = "@checksum";
+
+	private static final String _INDEX_FILE_SUFFIX = ".templates";
+
+	private static final String _LIFERAY_VERSIONS_HEADER = "Liferay-Versions";
+
+	private static final String _PROJECT_TEMPLATES_PREFIX = "com.liferay.project.templates.";
+
+	private static final Map<String, Map<String, String>> _versionRanges = new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import java.io.File;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayProductInfoServiceTest {
+
+	@Test
+	public void testIndexByTargetPlatformVersion() throws Exception {
+		File productInfoFile = File.createTempFile("product_info", ".json");
+
+		productInfoFile.deleteOnExit();
+
+		Files.write(productInfoFile.toPath(), _PRODUCT_INFO_JSON.getBytes(StandardCharsets.UTF_8));
+
+		LiferayProductInfoService productInfoService = new LiferayProductInfoService(productInfoFile);
+
+		List<ProductInfo> productInfos = productInfoService.getProductInfosByTargetPlatformVersion("7.3.6");
+
+		Assert.assertEquals(1, productInfos.size());
+
+		ProductInfo productInfo = productInfoService.getProductInfo("portal-7.3-ga7");
+
+		Assert.assertSame(productInfo, productInfos.get(0));
+
+		Assert.assertSame(productInfo, productInfoService.getProductInfo("portal-7.3-ga7"));
+
+		Assert.assertTrue(productInfoService.getProductInfosByTargetPlatformVersion("7.2.1").isEmpty());
+	}
+
+	@Test
+	public void testReadProductInfos() throws Exception {
+		Map<String, ProductInfo> productInfos = LiferayProductInfoService.readProductInfos(
+			new StringReader(_PRODUCT_INFO_JSON));
+
+		Assert.assertEquals(2, productInfos.size());
+
+		ProductInfo productInfo = productInfos.get("portal-7.3-ga7");
+
+		Assert.assertNotNull(productInfo);
+		Assert.assertEquals("9.0.40", productInfo.getAppServerTomcatVersion());
+		Assert.assertEquals("liferay/portal:7.3.6-ga7", productInfo.getLiferayDockerImage());
+		Assert.assertEquals("7.3.6", productInfo.getTargetPlatformVersion());
+		Assert.assertTrue(productInfo.isInitialVersion());
+
+		productInfo = productInfos.get("dxp-7.2-sp3");
+
+		Assert.assertNotNull(productInfo);
+		Assert.assertNull(productInfo.getBundleUrl());
+		Assert.assertFalse(productInfo.isInitialVersion());
+	}
+
+	private static final String _PRODUCT_INFO_JSON =
+		"{\"portal-7.3-ga7\": {\"appServerTomcatVersion\": \"9.0.40\", \"bundleUrl\": \"https://example.com/" +
+			"bundle.tar.gz\", \"initialVersion\": true, \"liferayDockerImage\": \"liferay/portal:7.3.6-ga7\", " +
+				"\"liferayProductVersion\": \"7.3.6-ga7\", \"promoted\": true, \"releaseDate\": \"3/1/2021\", " +
+					"\"targetPlatformVersion\": \"7.3.6\"}, \"dxp-7.2-sp3\": {\"bundleUrl\": null, " +
+						"\"liferayProductVersion\": \"7.2.10-sp3\", \"targetPlatformVersion\": \"7.2.10.3\", " +
+							"\"extra\": {\"nested\": [1, 2]}}}";
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.css;
+
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayCssClassIndexTest {
+
+	@Test
+	public void testExtractCssClasses() {
+		Set<String> cssClasses = LiferayCssClassIndex.extractCssClasses(
+			"/* .comment { } */\n.btn,.btn-primary:hover>.icon{color:red;background:url(\"a.png\")}\n" +
+				"@media (min-width: 576px){.col-sm-6.offset-1{width:50%}}\n" +
+					"@keyframes spin{0%{opacity:0}12.5%{opacity:.5}}\n" +
+						"a[href$=\".pdf\"] .w-1\\/2::before{content:\"{.quoted}\"}");
+
+		Assert.assertTrue(cssClasses.contains("btn"));
+		Assert.assertTrue(cssClasses.contains("btn-primary"));
+		Assert.assertTrue(cssClasses.contains("icon"));
+		Assert.assertTrue(cssClasses.contains("col-sm-6"));
+		Assert.assertTrue(cssClasses.contains("offset-1"));
+		Assert.assertTrue(cssClasses.contains("w-1/2"));
+		Assert.assertFalse(cssClasses.contains("comment"));
+		Assert.assertFalse(cssClasses.contains("png"));
+		Assert.assertFalse(cssClasses.contains("pdf"));
+		Assert.assertFalse(cssClasses.contains("quoted"));
+		Assert.assertEquals(6, cssClasses.size());
+	}
+
+	@Test
+	public void testIsFrontendArtifact() {
+		Assert.assertTrue(LiferayCssClassIndex.isFrontendArtifact("com.liferay.frontend.css.common-5.0.1.jar"));
+		Assert.assertTrue(LiferayCssClassIndex.isFrontendArtifact("com.liferay.frontend.theme.styled-4.0.9.jar"));
+		Assert.assertTrue(LiferayCssClassIndex.isFrontendArtifact("my-classic-theme.war"));
+		Assert.assertTrue(LiferayCssClassIndex.isFrontendArtifact("my-classic-theme-1.0.0.war"));
+		Assert.assertFalse(LiferayCssClassIndex.isFrontendArtifact("com.liferay.frontend.js.web-5.0.0.jar"));
+		Assert.assertFalse(
+			LiferayCssClassIndex.isFrontendArtifact("com.liferay.gradle.plugins.theme.builder-2.0.0.jar"));
+		Assert.assertFalse(LiferayCssClassIndex.isFrontendArtifact("com.liferay.portal.kernel-9.0.0.jar"));
+		Assert.assertFalse(LiferayCssClassIndex.isFrontendArtifact("theme-utils-1.0.0.jar"));
+	}
+
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.resourcebundle;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayLanguageKeyIndexTest {
+
+	@Test
+	public void testGetLocale() {
+		Assert.assertEquals("", LiferayLanguageKeyIndex.getLocale("Language.properties"));
+		Assert.assertEquals("de", LiferayLanguageKeyIndex.getLocale("Language_de.properties"));
+		Assert.assertEquals("pt_BR", LiferayLanguageKeyIndex.getLocale("Language_pt_BR.properties"));
+	}
+
+	@Test
+	public void testIndexLanguageKeys() {
+		Map<String, String> languageKeys = LiferayLanguageKeyIndex.indexLanguageKeys(
+			"Language_de.properties", "# comment\nfoo=Foo\nbar.baz = Bar \\\n\tBaz\nescaped\\ key=Key\n");
+
+		Assert.assertEquals("de", languageKeys.get("foo"));
+		Assert.assertEquals("de", languageKeys.get("bar.baz"));
+		Assert.assertEquals("de", languageKeys.get("escaped key"));
+		Assert.assertEquals("de", languageKeys.get(""));
+		Assert.assertNull(languageKeys.get("Baz"));
+		Assert.assertEquals(4, languageKeys.size());
+	}
+
+	@Test
+	public void testIsLanguageFile() {
+		Assert.assertTrue(LiferayLanguageKeyIndex.isLanguageFile("Language.properties"));
+		Assert.assertTrue(LiferayLanguageKeyIndex.isLanguageFile("Language_en_US.properties"));
+		Assert.assertFalse(LiferayLanguageKeyIndex.isLanguageFile("foo.properties"));
+		Assert.assertFalse(LiferayLanguageKeyIndex.isLanguageFile("Language.java"));
+		Assert.assertFalse(LiferayLanguageKeyIndex.isLanguageFile(null));
+	}
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.service;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayServiceXMLEntityIndexTest {
+
+	@Test
+	public void testIndexEntities() {
+		String text =
+			"<?xml version=\"1.0\"?>\n<!DOCTYPE service-builder PUBLIC \"-//Liferay//DTD Service Builder " +
+				"7.1.0//EN\" \"http://www.liferay.com/dtd/liferay-service-builder_7_1_0.dtd\">\n\n<service-builder " +
+					"package-path=\"com.liferay.ide\">\n\t<namespace>my_namespace</namespace>\n\t<!-- <entity " +
+						"name=\"Commented\" /> -->\n\t<entity local-service=\"true\" name=\"MyModel\">\n\t\t<column " +
+							"name=\"myModelId\" primary=\"true\" type=\"long\" />\n\t\t<reference entity=\"Group\" " +
+								"package-path=\"com.liferay.portal\" />\n\t</entity>\n\t<entity name='Other'/>\n" +
+									"</service-builder>";
+
+		Map<String, Integer> entities = LiferayServiceXMLEntityIndex.indexEntities(text);
+
+		Assert.assertEquals(2, entities.size());
+		Assert.assertEquals(
+			Integer.valueOf(text.indexOf("<entity local-service")), entities.get("com.liferay.ide.MyModel"));
+		Assert.assertEquals(
+			Integer.valueOf(text.indexOf("<entity name='Other'")), entities.get("com.liferay.ide.Other"));
+	}
+
+	@Test
+	public void testIndexEntitiesWithoutServiceBuilder() {
+		Assert.assertTrue(LiferayServiceXMLEntityIndex.indexEntities("").isEmpty());
+		Assert.assertTrue(
+			LiferayServiceXMLEntityIndex.indexEntities(
+				"<service-builder><entity name=\"MyModel\" /></service-builder>"
+			).isEmpty());
+		Assert.assertTrue(
+			LiferayServiceXMLEntityIndex.indexEntities(
+				"<portlet package-path=\"com.liferay.ide\"><entity name=\"MyModel\" /></portlet>"
+			).isEmpty());
+	}
+
+}
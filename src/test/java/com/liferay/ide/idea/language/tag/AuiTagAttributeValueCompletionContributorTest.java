@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class AuiTagAttributeValueCompletionContributorTest extends LightJavaCodeInsightFixtureTestCase {
+
+	public void testBooleanAttributeCompletion() {
+		myFixture.configureByFiles("boolean.jsp", "liferay-aui.tld");
+		myFixture.complete(CompletionType.BASIC, 1);
+
+		List<String> strings = myFixture.getLookupElementStrings();
+
+		assertNotNull(strings);
+		assertTrue(strings.contains("true"));
+		assertTrue(strings.contains("false"));
+	}
+
+	public void testStringAttributeCompletion() {
+		myFixture.configureByFiles("view.jsp", "liferay-aui.tld");
+		myFixture.complete(CompletionType.BASIC, 1);
+
+		List<String> strings = myFixture.getLookupElementStrings();
+
+		assertNotNull(strings);
+		assertTrue(strings.contains("get"));
+		assertTrue(strings.contains("post"));
+		assertFalse(strings.contains("true"));
+	}
+
+	@Override
+	protected String getTestDataPath() {
+		return "testdata/com/liferay/ide/idea/language/tag/AuiTagAttributeValueCompletionContributorTest";
+	}
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayTaglibAttributeIndexTest {
+
+	@Test
+	public void testContains() {
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "a", "cssClass"));
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.CSS_CLASS, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI_OLD, "a", "cssClass"));
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "script", ""));
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.SEARCH_CONTAINER, LiferayTaglibs.TAGLIB_URI_LIFERAY_UI,
+				"search-container-row", "keyProperty"));
+	}
+
+	@Test
+	public void testContainsNamespace() {
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.containsNamespace(
+				LiferayTaglibAttributeIndex.JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI));
+		Assert.assertTrue(
+			LiferayTaglibAttributeIndex.containsNamespace(
+				LiferayTaglibAttributeIndex.CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET));
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.containsNamespace(
+				LiferayTaglibAttributeIndex.JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_ASSET));
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.containsNamespace(
+				LiferayTaglibAttributeIndex.JAVASCRIPT, "http://java.sun.com/jsp/jstl/core"));
+		Assert.assertFalse(LiferayTaglibAttributeIndex.containsNamespace(LiferayTaglibAttributeIndex.JAVASCRIPT, null));
+	}
+
+	@Test
+	public void testGetAttributeNames() {
+		List<String> attributeNames = Arrays.asList(
+			LiferayTaglibAttributeIndex.getAttributeNames(LiferayTaglibAttributeIndex.JAVASCRIPT));
+
+		Assert.assertTrue(attributeNames.contains("onClick"));
+		Assert.assertFalse(attributeNames.contains(""));
+		Assert.assertFalse(attributeNames.contains("cssClass"));
+	}
+
+	@Test
+	public void testNotContains() {
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.JAVASCRIPT, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "a", "cssClass"));
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.CLASS_NAME, LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI_OLD, "input", "model"));
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.CSS_CLASS, "http://java.sun.com/jsp/jstl/core", "a", "cssClass"));
+		Assert.assertFalse(
+			LiferayTaglibAttributeIndex.contains(
+				LiferayTaglibAttributeIndex.CSS_CLASS, null, "a", "cssClass"));
+	}
+
+}
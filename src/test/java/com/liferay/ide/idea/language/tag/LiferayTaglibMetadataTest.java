@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayTaglibMetadataTest {
+
+	@Test
+	public void testGetAttribute() {
+		LiferayTaglibMetadata.Attribute attribute = LiferayTaglibMetadata.getAttribute(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "disabled");
+
+		Assert.assertNotNull(attribute);
+		Assert.assertEquals("boolean", attribute.getType());
+		Assert.assertTrue(attribute.isRuntimeExpression());
+
+		Assert.assertNull(LiferayTaglibMetadata.getAttribute(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "foo"));
+		Assert.assertNull(LiferayTaglibMetadata.getAttribute(LiferayTaglibs.TAGLIB_URI_LIFERAY_CLAY, "button", "type"));
+		Assert.assertNull(LiferayTaglibMetadata.getAttribute(null, "button", "disabled"));
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+			dataOutputStream.writeInt(LiferayTaglibMetadata.MAGIC);
+			dataOutputStream.writeInt(LiferayTaglibMetadata.FORMAT_VERSION);
+			dataOutputStream.writeInt(1);
+			dataOutputStream.writeUTF(LiferayTaglibs.TAGLIB_URI_LIFERAY_UI);
+			dataOutputStream.writeInt(1);
+			dataOutputStream.writeUTF("message");
+			dataOutputStream.writeInt(2);
+			dataOutputStream.writeUTF("key");
+			dataOutputStream.writeUTF("");
+			dataOutputStream.writeByte(3);
+			dataOutputStream.writeUTF("escape");
+			dataOutputStream.writeUTF("boolean");
+			dataOutputStream.writeByte(0);
+		}
+
+		Map<String, Map<String, Map<String, LiferayTaglibMetadata.Attribute>>> taglibs = LiferayTaglibMetadata.read(
+			new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+
+		Map<String, LiferayTaglibMetadata.Attribute> attributes = taglibs.get(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_UI
+		).get(
+			"message"
+		);
+
+		LiferayTaglibMetadata.Attribute key = attributes.get("key");
+
+		Assert.assertEquals("message", key.getTagName());
+		Assert.assertNull(key.getType());
+		Assert.assertTrue(key.isRequired());
+		Assert.assertTrue(key.isRuntimeExpression());
+
+		LiferayTaglibMetadata.Attribute escape = attributes.get("escape");
+
+		Assert.assertEquals("boolean", escape.getType());
+		Assert.assertFalse(escape.isRequired());
+		Assert.assertFalse(escape.isRuntimeExpression());
+	}
+
+}
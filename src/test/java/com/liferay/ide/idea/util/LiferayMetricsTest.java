@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayMetricsTest {
+
+	@Test
+	public void testHistogram() {
+		LiferayMetrics.Histogram histogram = LiferayMetrics.histogram("test.histogram");
+
+		for (int i = 1; i <= 100; i++) {
+			histogram.update(i);
+		}
+
+		Assert.assertEquals(100, histogram.getCount());
+		Assert.assertEquals(100, histogram.getMax());
+		Assert.assertEquals(5050, histogram.getSum());
+		Assert.assertEquals(63, histogram.getValueAtPercentile(50));
+		Assert.assertEquals(100, histogram.getValueAtPercentile(99));
+	}
+
+	@Test
+	public void testToJson() {
+		LiferayMetrics.Counter counter = LiferayMetrics.counter("test.counter");
+
+		counter.increment();
+
+		LiferayMetrics.Timer timer = LiferayMetrics.timer("test.timer");
+
+		try (LiferayMetrics.Timer.Sample sample = timer.start()) {
+		}
+
+		LiferayMetrics.Histogram histogram = timer.getHistogram();
+
+		Assert.assertEquals(1, histogram.getCount());
+
+		String json = LiferayMetrics.toJson();
+
+		Assert.assertTrue(json.contains("\"test.counter\": 1"));
+		Assert.assertTrue(json.contains("\"test.timer\""));
+	}
+
+}
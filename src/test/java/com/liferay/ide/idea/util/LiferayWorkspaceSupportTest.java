@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LiferayWorkspaceSupportTest {
+
+	@Test
+	public void testWorkspacePluginApplied() {
+		Assert.assertTrue(LiferayWorkspaceSupport.isWorkspacePluginApplied("apply plugin: \"com.liferay.workspace\""));
+		Assert.assertTrue(LiferayWorkspaceSupport.isWorkspacePluginApplied("apply plugin: 'com.liferay.workspace'\n"));
+		Assert.assertTrue(
+			LiferayWorkspaceSupport.isWorkspacePluginApplied(
+				"buildscript {\n\tdependencies {\n\t\tclasspath group: \"com.liferay\", name: " +
+					"\"com.liferay.gradle.plugins.workspace\", version: \"3.4.2\"\n\t}\n}\n\napply plugin: " +
+						"\"com.liferay.workspace\"\n"));
+	}
+
+	@Test
+	public void testWorkspacePluginNotApplied() {
+		Assert.assertFalse(LiferayWorkspaceSupport.isWorkspacePluginApplied(null));
+		Assert.assertFalse(LiferayWorkspaceSupport.isWorkspacePluginApplied(""));
+		Assert.assertFalse(
+			LiferayWorkspaceSupport.isWorkspacePluginApplied("apply plugin: \"com.liferay.workspace.extra\""));
+		Assert.assertFalse(
+			LiferayWorkspaceSupport.isWorkspacePluginApplied("apply plugin: 'java'\ncom.liferay.workspace"));
+		Assert.assertFalse(
+			LiferayWorkspaceSupport.isWorkspacePluginApplied("plugins {\n\tid 'com.liferay.workspace'\n}"));
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ProjectTemplateVersionRangeIndexTest {
+
+	@Test
+	public void testReadVersionRange() throws Exception {
+		Manifest manifest = new Manifest();
+
+		Attributes mainAttributes = manifest.getMainAttributes();
+
+		mainAttributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		mainAttributes.putValue("Liferay-Versions", "[7.0,7.4)");
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		try (JarOutputStream jarOutputStream = new JarOutputStream(byteArrayOutputStream, manifest)) {
+			jarOutputStream.putNextEntry(new ZipEntry("archetype-resources/build.gradle"));
+			jarOutputStream.closeEntry();
+		}
+
+		Assert.assertEquals(
+			"[7.0,7.4)",
+			ProjectTemplateVersionRangeIndex.readVersionRange(
+				new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+	}
+
+	@Test
+	public void testReadVersionRangeWithoutManifest() throws Exception {
+		Assert.assertNull(
+			ProjectTemplateVersionRangeIndex.readVersionRange(new ByteArrayInputStream(_createJar("README.md"))));
+	}
+
+	private static byte[] _createJar(String entryName) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
+			zipOutputStream.putNextEntry(new ZipEntry(entryName));
+			zipOutputStream.closeEntry();
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+}
@@ -0,0 +1,3 @@
+<%@ taglib uri="http://liferay.com/tld/aui" prefix="aui" %>
+
+<aui:button disabled="<caret>" />
\ No newline at end of file